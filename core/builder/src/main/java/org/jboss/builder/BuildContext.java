@@ -24,6 +24,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jboss.builder.diag.Diagnostic;
@@ -374,6 +375,7 @@ public final class BuildContext {
         if (!stepInfo.getProduces().contains(id)) {
             throw Messages.msg.undeclaredItem(id);
         }
+        execution.recordProducer(id, value, stepInfo);
         if (id.isMulti()) {
             final List<BuildItem> list = execution.getMultis().computeIfAbsent(id, x -> new ArrayList<>());
             synchronized (list) {
@@ -397,15 +399,19 @@ public final class BuildContext {
         final int remaining = dependencies.decrementAndGet();
         log.tracef("Dependency of \"%2$s\" finished; %1$d remaining", remaining, stepInfo.getBuildStep());
         if (remaining == 0) {
-            execution.getExecutor().execute(this::run);
+            execution.schedule(this);
         }
     }
 
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
     void run() {
         final Execution execution = this.execution;
         final StepInfo stepInfo = this.stepInfo;
         final BuildStep buildStep = stepInfo.getBuildStep();
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         log.tracef("Starting step \"%s\"", buildStep);
         try {
             if (!execution.isErrorReported()) {
@@ -421,7 +427,9 @@ public final class BuildContext {
                 }
             }
         } finally {
-            log.tracef("Finished step \"%s\" in %s ms", buildStep, System.currentTimeMillis() - start);
+            final long end = System.nanoTime();
+            log.tracef("Finished step \"%s\" in %s ms", buildStep, TimeUnit.NANOSECONDS.toMillis(end - start));
+            execution.recordStep(stepInfo, start, end, Thread.currentThread());
             execution.removeBuildContext(stepInfo, this);
         }
         final Set<StepInfo> dependents = stepInfo.getDependents();
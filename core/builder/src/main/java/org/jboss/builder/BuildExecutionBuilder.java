@@ -36,6 +36,8 @@ public final class BuildExecutionBuilder {
     private final String buildTargetName;
     private final Map<ItemId, BuildItem> initialSingle;
     private final Map<ItemId, ArrayList<BuildItem>> initialMulti;
+    // build steps are often IO bound, so there are at least 8 threads
+    private int corePoolSize = Math.max(8, Runtime.getRuntime().availableProcessors());
 
     BuildExecutionBuilder(final BuildChain buildChain, final String buildTargetName) {
         this.buildChain = buildChain;
@@ -126,6 +128,15 @@ public final class BuildExecutionBuilder {
         return this;
     }
 
+    int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    BuildExecutionBuilder setCorePoolSize(int corePoolSize) {
+        this.corePoolSize = corePoolSize;
+        return this;
+    }
+
     /**
      * Run the build. The chain may run in one or many threads.
      *
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.builder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-step timing of a build execution.
+ * <p>
+ * The critical path is the chain of steps which determined the duration of the build: starting from the step which
+ * finished last, each step is preceded by the dependency which finished last, i.e. the one the step had to wait for.
+ */
+public final class BuildProfile {
+    private final List<BuildStepRecord> steps;
+    private final List<BuildStepRecord> criticalPath;
+    private final long nanos;
+
+    BuildProfile(final Collection<BuildStepRecord> records, final long nanos) {
+        final List<BuildStepRecord> steps = new ArrayList<>(records);
+        steps.sort(Comparator.comparingLong(BuildStepRecord::getStartNanos));
+        this.steps = Collections.unmodifiableList(steps);
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath(steps));
+        this.nanos = nanos;
+    }
+
+    /**
+     * Get the executed steps, ordered by start time.
+     *
+     * @return the executed steps
+     */
+    public List<BuildStepRecord> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Get the critical path, ordered from the first step to the last one.
+     *
+     * @return the steps on the critical path
+     */
+    public List<BuildStepRecord> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Get a human readable summary with the slowest steps and the critical path.
+     *
+     * @param limit the maximum number of slowest steps to include
+     * @return the summary
+     */
+    public String getSummary(int limit) {
+        final StringBuilder b = new StringBuilder();
+        final long total = TimeUnit.NANOSECONDS.toMillis(nanos);
+        long sum = 0;
+        for (BuildStepRecord step : steps) {
+            sum += step.getDuration(TimeUnit.MILLISECONDS);
+        }
+        b.append(String.format("Build executed %d steps in %d ms (%d ms of step time)%n", steps.size(), total, sum));
+        final List<BuildStepRecord> slowest = new ArrayList<>(steps);
+        slowest.sort(Comparator.comparingLong((BuildStepRecord s) -> s.getDuration(TimeUnit.NANOSECONDS)).reversed());
+        b.append(String.format("Slowest steps:%n"));
+        appendTable(b, slowest.subList(0, Math.min(limit, slowest.size())));
+        long criticalSum = 0;
+        for (BuildStepRecord step : criticalPath) {
+            criticalSum += step.getDuration(TimeUnit.MILLISECONDS);
+        }
+        b.append(String.format("Critical path (%d steps, %d ms):%n", criticalPath.size(), criticalSum));
+        appendTable(b, criticalPath);
+        return b.toString();
+    }
+
+    /**
+     * Write the profile in the Chrome trace event format. The result can be loaded in {@code chrome://tracing} or
+     * similar tools.
+     *
+     * @param writer the writer (must not be {@code null})
+     * @throws IOException if writing fails
+     */
+    public void writeTraceEvents(Writer writer) throws IOException {
+        final Set<BuildStepRecord> critical = new HashSet<>(criticalPath);
+        final Map<Long, String> threads = new LinkedHashMap<>();
+        writer.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (BuildStepRecord step : steps) {
+            threads.putIfAbsent(Long.valueOf(step.getThreadId()), step.getThreadName());
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":");
+            writeString(writer, step.getStepName());
+            writer.write(",\"cat\":\"");
+            writer.write(critical.contains(step) ? "build-step,critical" : "build-step");
+            writer.write("\",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            writer.write(Long.toString(step.getThreadId()));
+            writer.write(",\"ts\":");
+            writer.write(Long.toString(step.getStart(TimeUnit.MICROSECONDS)));
+            writer.write(",\"dur\":");
+            writer.write(Long.toString(step.getDuration(TimeUnit.MICROSECONDS)));
+            writer.write(",\"args\":{\"consumes\":");
+            writeStrings(writer, step.getConsumes());
+            writer.write(",\"produces\":");
+            writeStrings(writer, step.getProduces());
+            writer.write("}}");
+        }
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":");
+            writer.write(thread.getKey().toString());
+            writer.write(",\"args\":{\"name\":");
+            writeString(writer, thread.getValue());
+            writer.write("}}");
+        }
+        writer.write("\n]}\n");
+        writer.flush();
+    }
+
+    private static List<BuildStepRecord> computeCriticalPath(List<BuildStepRecord> steps) {
+        if (steps.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<StepInfo, List<BuildStepRecord>> dependencies = new HashMap<>();
+        BuildStepRecord last = null;
+        for (BuildStepRecord step : steps) {
+            for (StepInfo dependent : step.getStepInfo().getDependents()) {
+                dependencies.computeIfAbsent(dependent, d -> new ArrayList<>()).add(step);
+            }
+            if (last == null || step.getEndNanos() > last.getEndNanos()) {
+                last = step;
+            }
+        }
+        final List<BuildStepRecord> path = new ArrayList<>();
+        BuildStepRecord current = last;
+        while (current != null) {
+            path.add(current);
+            BuildStepRecord next = null;
+            for (BuildStepRecord dependency : dependencies.getOrDefault(current.getStepInfo(), Collections.emptyList())) {
+                if (next == null || dependency.getEndNanos() > next.getEndNanos()) {
+                    next = dependency;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static void appendTable(StringBuilder b, List<BuildStepRecord> steps) {
+        for (BuildStepRecord step : steps) {
+            b.append(String.format("%8d ms  %8d ms  %-20s %s%n", step.getDuration(TimeUnit.MILLISECONDS),
+                    step.getStart(TimeUnit.MILLISECONDS), step.getThreadName(), step.getStepName()));
+        }
+    }
+
+    private static void writeStrings(Writer writer, List<String> values) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeString(writer, values.get(i));
+        }
+        writer.write(']');
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", Integer.valueOf(c)));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
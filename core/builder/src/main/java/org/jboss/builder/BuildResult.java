@@ -19,6 +19,7 @@ package org.jboss.builder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -38,14 +39,19 @@ public final class BuildResult {
     private final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems;
     private final List<Diagnostic> diagnostics;
     private final long nanos;
+    private final BuildProfile profile;
+    private final Map<BuildItem, StepInfo> producers;
 
     BuildResult(final ConcurrentHashMap<ItemId, BuildItem> simpleItems,
             final ConcurrentHashMap<ItemId, List<BuildItem>> multiItems, final Set<ItemId> finalIds,
-            final List<Diagnostic> diagnostics, final long nanos) {
+            final List<Diagnostic> diagnostics, final long nanos, final BuildProfile profile,
+            final Map<BuildItem, StepInfo> producers) {
         this.simpleItems = simpleItems;
         this.multiItems = multiItems;
         this.diagnostics = diagnostics;
         this.nanos = nanos;
+        this.profile = profile;
+        this.producers = producers;
     }
 
     /**
@@ -83,6 +89,17 @@ public final class BuildResult {
         return new ArrayList<>(items);
     }
 
+    /**
+     * Get the name of the build step that produced the given item.
+     *
+     * @param item an item of this result (must not be {@code null})
+     * @return the name of the producing build step, or {@code null} if the item was not produced by this build
+     */
+    public String getProducer(BuildItem item) {
+        final StepInfo stepInfo = producers.get(item);
+        return stepInfo == null ? null : stepInfo.getBuildStep().toString();
+    }
+
     /**
      * Get the diagnostics reported during build.
      *
@@ -102,6 +119,15 @@ public final class BuildResult {
         return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Get the per-step timing of the build.
+     *
+     * @return the build profile
+     */
+    public BuildProfile getProfile() {
+        return profile;
+    }
+
     /**
      * Close all the resultant resources, logging any failures.
      */
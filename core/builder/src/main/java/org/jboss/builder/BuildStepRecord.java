@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing information of a single build step execution.
+ */
+public final class BuildStepRecord {
+    private final StepInfo stepInfo;
+    private final String threadName;
+    private final long threadId;
+    private final long startNanos;
+    private final long endNanos;
+
+    BuildStepRecord(final StepInfo stepInfo, final Thread thread, final long startNanos, final long endNanos) {
+        this.stepInfo = stepInfo;
+        this.threadName = thread.getName();
+        this.threadId = thread.getId();
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+    }
+
+    /**
+     * Get the name of the build step.
+     *
+     * @return the name of the build step
+     */
+    public String getStepName() {
+        return stepInfo.getBuildStep().toString();
+    }
+
+    /**
+     * Get the name of the thread which executed the build step.
+     *
+     * @return the thread name
+     */
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * Get the id of the thread which executed the build step.
+     *
+     * @return the thread id
+     */
+    public long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * Get the time elapsed from the start of the build to the start of the build step.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getStart(TimeUnit timeUnit) {
+        return timeUnit.convert(startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the time elapsed from the start of the build to the end of the build step.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getEnd(TimeUnit timeUnit) {
+        return timeUnit.convert(endNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the duration of the build step.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(endNanos - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the consumed items.
+     *
+     * @return the sorted list of consumed item names
+     */
+    public List<String> getConsumes() {
+        return toNames(stepInfo.getConsumes());
+    }
+
+    /**
+     * Get the produced items.
+     *
+     * @return the sorted list of produced item names
+     */
+    public List<String> getProduces() {
+        return toNames(stepInfo.getProduces());
+    }
+
+    StepInfo getStepInfo() {
+        return stepInfo;
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    long getEndNanos() {
+        return endNanos;
+    }
+
+    private static List<String> toNames(Set<ItemId> ids) {
+        final List<String> names = new ArrayList<>(ids.size());
+        for (ItemId id : ids) {
+            names.add(id.toString());
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    public String toString() {
+        return getStepName() + " [" + getDuration(TimeUnit.MILLISECONDS) + " ms on " + threadName + "]";
+    }
+}
@@ -21,9 +21,14 @@ import static java.util.concurrent.locks.LockSupport.*;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,6 +56,11 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final PriorityBlockingQueue<BuildContext> readySteps = new PriorityBlockingQueue<>(16,
+            Comparator.comparingInt((BuildContext ctx) -> ctx.getStepInfo().getDownstreamLength()).reversed());
+    private final ConcurrentLinkedQueue<BuildStepRecord> stepRecords = new ConcurrentLinkedQueue<>();
+    private final Map<BuildItem, StepInfo> producers = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile long startNanos;
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -60,7 +70,7 @@ final class Execution {
         this.multis = new ConcurrentHashMap<>(builder.getInitialMulti());
         this.finalIds = finalIds;
         final EnhancedQueueExecutor.Builder executorBuilder = new EnhancedQueueExecutor.Builder();
-        executorBuilder.setCorePoolSize(8).setMaximumPoolSize(1024);
+        executorBuilder.setCorePoolSize(builder.getCorePoolSize()).setMaximumPoolSize(1024);
         executorBuilder.setExceptionHandler(JBossExecutors.loggingExceptionHandler());
         executorBuilder.setThreadFactory(new JBossThreadFactory(new ThreadGroup("build group"), Boolean.FALSE, null, "build-%t",
                 JBossExecutors.loggingExceptionHandler(), null));
@@ -85,11 +95,12 @@ final class Execution {
 
     BuildResult run() throws BuildException {
         final long start = System.nanoTime();
+        startNanos = start;
         runningThread = Thread.currentThread();
         // run the build
         final List<StepInfo> startSteps = chain.getStartSteps();
         for (StepInfo startStep : startSteps) {
-            executor.execute(getBuildContext(startStep)::run);
+            schedule(getBuildContext(startStep));
         }
         // wait for the wrap-up
         boolean intr = false;
@@ -131,8 +142,38 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
-        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+        final long nanos = max(0, System.nanoTime() - start);
+        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics), nanos,
+                new BuildProfile(stepRecords, nanos), producers);
+    }
+
+    /**
+     * Schedule a step whose dependencies are all satisfied. The executor runs the ready steps in order of their
+     * longest downstream path rather than in the order they became ready, so that long chains are not held up by
+     * short ones.
+     */
+    void schedule(BuildContext buildContext) {
+        readySteps.add(buildContext);
+        executor.execute(this::runNext);
+    }
+
+    private void runNext() {
+        final BuildContext buildContext = readySteps.poll();
+        if (buildContext != null) {
+            buildContext.run();
+        }
+    }
+
+    void recordProducer(ItemId id, BuildItem item, StepInfo stepInfo) {
+        // only final items outlive the build, so only their producers are worth keeping
+        if (item != null && finalIds.contains(id)) {
+            producers.put(item, stepInfo);
+        }
+    }
+
+    void recordStep(StepInfo stepInfo, long start, long end, Thread thread) {
+        final long buildStart = startNanos;
+        stepRecords.add(new BuildStepRecord(stepInfo, thread, max(0, start - buildStart), max(0, end - buildStart)));
     }
 
     EnhancedQueueExecutor getExecutor() {
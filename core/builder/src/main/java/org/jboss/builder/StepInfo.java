@@ -26,6 +26,7 @@ final class StepInfo {
     private final Set<StepInfo> dependents;
     private final Set<ItemId> consumes;
     private final Set<ItemId> produces;
+    private final int downstreamLength;
 
     StepInfo(final BuildStepBuilder builder, int dependencies, Set<StepInfo> dependents) {
         buildStep = builder.getBuildStep();
@@ -33,6 +34,11 @@ final class StepInfo {
         produces = builder.getRealProduces();
         this.dependencies = dependencies;
         this.dependents = dependents;
+        int longest = 0;
+        for (StepInfo dependent : dependents) {
+            longest = Math.max(longest, dependent.getDownstreamLength());
+        }
+        downstreamLength = longest + 1;
     }
 
     BuildStep getBuildStep() {
@@ -47,6 +53,16 @@ final class StepInfo {
         return dependents;
     }
 
+    /**
+     * Get the number of steps on the longest path from this step to an end step, including this step. Ready steps
+     * with longer downstream paths are run first.
+     *
+     * @return the length of the longest downstream path
+     */
+    int getDownstreamLength() {
+        return downstreamLength;
+    }
+
     Set<ItemId> getConsumes() {
         return consumes;
     }
@@ -18,6 +18,9 @@ package org.jboss.builder;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.builder.item.SimpleBuildItem;
@@ -33,6 +36,30 @@ public class BasicTests {
     public static final class DummyItem2 extends SimpleBuildItem {
     }
 
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
+    public static final class GateItem extends SimpleBuildItem {
+    }
+
+    public static final class LongItem1 extends SimpleBuildItem {
+    }
+
+    public static final class LongItem2 extends SimpleBuildItem {
+    }
+
+    public static final class LongItem3 extends SimpleBuildItem {
+    }
+
+    public static final class MediumItem1 extends SimpleBuildItem {
+    }
+
+    public static final class MediumItem2 extends SimpleBuildItem {
+    }
+
+    public static final class ShortItem extends SimpleBuildItem {
+    }
+
     @Test
     public void testSimple() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -53,6 +80,28 @@ public class BasicTests {
         assertNotNull(result.consume(DummyItem.class));
     }
 
+    @Test
+    public void testProducer() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+
+            @Override
+            public String toString() {
+                return "producer";
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+        assertEquals("producer", result.getProducer(result.consume(DummyItem.class)));
+        assertNull(result.getProducer(new DummyItem()));
+    }
+
     @Test
     public void testLinked() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
@@ -80,6 +129,102 @@ public class BasicTests {
         assertNotNull(result.consume(DummyItem2.class));
     }
 
+    @Test
+    public void testDownstreamLength() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final BuildStep first = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem());
+            }
+        };
+        BuildStepBuilder stepBuilder = builder.addBuildStep(first);
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                assertNotNull(context.consume(DummyItem.class));
+                context.produce(new DummyItem2());
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        final BuildStep independent = new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+        };
+        stepBuilder = builder.addBuildStep(independent);
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem2.class);
+        builder.addFinal(DummyItem3.class);
+        final BuildChain chain = builder.build();
+        assertEquals(2, chain.getStartSteps().size());
+        for (StepInfo startStep : chain.getStartSteps()) {
+            if (startStep.getBuildStep() == first) {
+                assertEquals(2, startStep.getDownstreamLength());
+            } else {
+                assertSame(independent, startStep.getBuildStep());
+                assertEquals(1, startStep.getDownstreamLength());
+            }
+        }
+        final BuildResult result = chain.createExecutionBuilder("my-app.jar").execute();
+        assertNotNull(result.consume(DummyItem2.class));
+        assertNotNull(result.consume(DummyItem3.class));
+        assertEquals(3, result.getProfile().getSteps().size());
+        assertFalse(result.getProfile().getCriticalPath().isEmpty());
+    }
+
+    @Test
+    public void testReadyStepOrder() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        addStep(builder, order, "gate", null, GateItem.class);
+        // registered shortest first, so that a first come first served executor runs them in this order
+        addStep(builder, order, "short", GateItem.class, ShortItem.class);
+        addStep(builder, order, "medium1", GateItem.class, MediumItem1.class);
+        addStep(builder, order, "medium2", MediumItem1.class, MediumItem2.class);
+        addStep(builder, order, "long1", GateItem.class, LongItem1.class);
+        addStep(builder, order, "long2", LongItem1.class, LongItem2.class);
+        addStep(builder, order, "long3", LongItem2.class, LongItem3.class);
+        builder.addFinal(ShortItem.class);
+        builder.addFinal(MediumItem2.class);
+        builder.addFinal(LongItem3.class);
+        final BuildChain chain = builder.build();
+        // a single thread takes one ready step at a time
+        chain.createExecutionBuilder("my-app.jar").setCorePoolSize(1).execute();
+        assertEquals(7, order.size());
+        assertEquals("gate", order.get(0));
+        // once the gate ran, the start of the longest path is taken first and the shortest path last
+        assertEquals("long1", order.get(1));
+        assertTrue(order.toString(), order.indexOf("medium1") < order.indexOf("short"));
+        assertTrue(order.toString(), order.indexOf("long2") < order.indexOf("short"));
+    }
+
+    private static void addStep(BuildChainBuilder builder, List<String> order, String name,
+            Class<? extends SimpleBuildItem> consumed, Class<? extends SimpleBuildItem> produced) {
+        final BuildStepBuilder stepBuilder = builder.addBuildStep(new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                order.add(name);
+                try {
+                    context.produce(produced.newInstance());
+                } catch (InstantiationException | IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        if (consumed != null) {
+            stepBuilder.consumes(consumed);
+        }
+        stepBuilder.produces(produced);
+        stepBuilder.build();
+    }
+
     @Test
     public void testInitial() throws ChainBuildException, BuildException {
         final BuildChainBuilder builder = BuildChain.builder();
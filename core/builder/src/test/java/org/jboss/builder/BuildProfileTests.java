@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.builder.item.SimpleBuildItem;
+import org.junit.Test;
+
+/**
+ */
+public class BuildProfileTests {
+
+    public static final class Item extends SimpleBuildItem {
+    }
+
+    public static final class SlowItem extends SimpleBuildItem {
+    }
+
+    public static final class FastItem extends SimpleBuildItem {
+    }
+
+    public static final class FinalItem extends SimpleBuildItem {
+    }
+
+    private static final Thread MAIN = new Thread("main");
+    private static final Thread WORKER = new Thread("worker");
+
+    @Test
+    public void testCriticalPathOfChain() throws ChainBuildException, BuildException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("root", 0, context -> context.produce(new Item())))
+                .produces(Item.class).build();
+        builder.addBuildStep(step("slow", 200, context -> context.produce(new SlowItem())))
+                .consumes(Item.class).produces(SlowItem.class).build();
+        builder.addBuildStep(step("fast", 0, context -> context.produce(new FastItem())))
+                .consumes(Item.class).produces(FastItem.class).build();
+        builder.addBuildStep(step("last", 0, context -> context.produce(new FinalItem())))
+                .consumes(SlowItem.class).consumes(FastItem.class).produces(FinalItem.class).build();
+        builder.addFinal(FinalItem.class);
+        final BuildProfile profile = builder.build().createExecutionBuilder("my-app.jar").execute().getProfile();
+        assertEquals(new HashSet<>(Arrays.asList("root", "fast", "slow", "last")), new HashSet<>(names(profile.getSteps())));
+        // with a single build thread the fast step may run after the slow one
+        final BuildStepRecord slow = find(profile, "slow");
+        final BuildStepRecord fast = find(profile, "fast");
+        assertTrue(slow.getDuration(TimeUnit.MILLISECONDS) >= 200);
+        final String waitedFor = slow.getEnd(TimeUnit.NANOSECONDS) >= fast.getEnd(TimeUnit.NANOSECONDS) ? "slow" : "fast";
+        assertEquals(Arrays.asList("root", waitedFor, "last"), names(profile.getCriticalPath()));
+    }
+
+    @Test
+    public void testSummary() {
+        final BuildProfile profile = fixedProfile();
+        assertEquals(Arrays.asList("a", "c", "d"), names(profile.getCriticalPath()));
+        final String nl = String.format("%n");
+        assertEquals("Build executed 4 steps in 125 ms (130 ms of step time)" + nl
+                + "Slowest steps:" + nl
+                + "     100 ms        10 ms  worker               c" + nl
+                + "      10 ms         0 ms  main                 a" + nl
+                + "Critical path (3 steps, 120 ms):" + nl
+                + "      10 ms         0 ms  main                 a" + nl
+                + "     100 ms        10 ms  worker               c" + nl
+                + "      10 ms       110 ms  main                 d" + nl, profile.getSummary(2));
+    }
+
+    @Test
+    public void testTraceEvents() throws IOException {
+        final BuildProfile profile = fixedProfile();
+        final StringWriter writer = new StringWriter();
+        profile.writeTraceEvents(writer);
+        final String main = Long.toString(MAIN.getId());
+        final String worker = Long.toString(WORKER.getId());
+        assertEquals("{\"traceEvents\":["
+                + "\n{\"name\":\"a\",\"cat\":\"build-step,critical\",\"ph\":\"X\",\"pid\":1,\"tid\":" + main
+                + ",\"ts\":0,\"dur\":10000,\"args\":{\"consumes\":[],\"produces\":[]}},"
+                + "\n{\"name\":\"c\",\"cat\":\"build-step,critical\",\"ph\":\"X\",\"pid\":1,\"tid\":" + worker
+                + ",\"ts\":10000,\"dur\":100000,\"args\":{\"consumes\":[],\"produces\":[\"" + FinalItem.class + "\"]}},"
+                + "\n{\"name\":\"b \\\"quoted\\\"\",\"cat\":\"build-step\",\"ph\":\"X\",\"pid\":1,\"tid\":" + main
+                + ",\"ts\":10000,\"dur\":10000,\"args\":{\"consumes\":[],\"produces\":[]}},"
+                + "\n{\"name\":\"d\",\"cat\":\"build-step,critical\",\"ph\":\"X\",\"pid\":1,\"tid\":" + main
+                + ",\"ts\":110000,\"dur\":10000,\"args\":{\"consumes\":[\"" + FinalItem.class + "\"],\"produces\":[]}},"
+                + "\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + main + ",\"args\":{\"name\":\"main\"}},"
+                + "\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + worker + ",\"args\":{\"name\":\"worker\"}}"
+                + "\n]}\n", writer.toString());
+    }
+
+    /**
+     * a (0-10 ms) is followed by b (10-20 ms) and c (10-110 ms), which are both followed by d (110-120 ms).
+     */
+    private static BuildProfile fixedProfile() {
+        final BuildChainBuilder chain = BuildChain.builder();
+        final StepInfo d = stepInfo(new BuildStepBuilder(chain).consumes(FinalItem.class), "d", Collections.emptySet());
+        final StepInfo b = stepInfo(new BuildStepBuilder(chain), "b \"quoted\"", Collections.singleton(d));
+        final StepInfo c = stepInfo(new BuildStepBuilder(chain).produces(FinalItem.class), "c", Collections.singleton(d));
+        final StepInfo a = stepInfo(new BuildStepBuilder(chain), "a", new HashSet<>(Arrays.asList(b, c)));
+        return new BuildProfile(Arrays.asList(
+                new BuildStepRecord(d, MAIN, millis(110), millis(120)),
+                new BuildStepRecord(c, WORKER, millis(10), millis(110)),
+                new BuildStepRecord(b, MAIN, millis(10), millis(20)),
+                new BuildStepRecord(a, MAIN, 0, millis(10))), millis(125));
+    }
+
+    private static StepInfo stepInfo(BuildStepBuilder builder, String name, Set<StepInfo> dependents) {
+        return new StepInfo(builder.setBuildStep(step(name, 0, context -> {
+        })), 0, dependents);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private static BuildStep step(String name, long sleepMillis, BuildStep body) {
+        return new BuildStep() {
+            @Override
+            public void execute(final BuildContext context) {
+                if (sleepMillis > 0) {
+                    try {
+                        Thread.sleep(sleepMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                body.execute(context);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    private static List<String> names(List<BuildStepRecord> steps) {
+        final List<String> names = new ArrayList<>();
+        for (BuildStepRecord step : steps) {
+            names.add(step.getStepName());
+        }
+        return names;
+    }
+
+    private static BuildStepRecord find(BuildProfile profile, String name) {
+        for (BuildStepRecord step : profile.getSteps()) {
+            if (step.getStepName().equals(name)) {
+                return step;
+            }
+        }
+        throw new AssertionError("No step " + name);
+    }
+}
@@ -18,6 +18,7 @@
 package io.quarkus.creator.phase.augment;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -46,7 +47,9 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.eclipse.microprofile.config.Config;
+import org.jboss.builder.BuildProfile;
 import org.jboss.builder.BuildResult;
+import org.jboss.builder.item.MultiBuildItem;
 import org.jboss.logging.Logger;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
@@ -62,6 +65,7 @@ import io.quarkus.creator.config.reader.MappedPropertiesHandler;
 import io.quarkus.creator.config.reader.PropertiesHandler;
 import io.quarkus.creator.outcome.OutcomeProviderRegistration;
 import io.quarkus.creator.phase.curate.CurateOutcome;
+import io.quarkus.creator.phase.nativeimage.SubstrateRegistrationReport;
 import io.quarkus.creator.util.IoUtils;
 import io.quarkus.creator.util.ZipUtils;
 import io.quarkus.deployment.ClassOutput;
@@ -84,6 +88,7 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
     private static final String DEPENDENCIES_RUNTIME = "dependencies.runtime";
     private static final String FILENAME_STEP_CLASSES = "META-INF/quarkus-build-steps.list";
     private static final String PROVIDED = "provided";
+    private static final int BUILD_SUMMARY_STEPS = 10;
 
     private static final Logger log = Logger.getLogger(AugmentPhase.class);
 
@@ -91,6 +96,8 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
     private Path appClassesDir;
     private Path transformedClassesDir;
     private Path wiringClassesDir;
+    private Path buildTraceFile;
+    private boolean substrateRegistrationReport;
     private Set<String> whitelist = new HashSet<>();
 
     /**
@@ -144,6 +151,35 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
         return this;
     }
 
+    /**
+     * File the build step timings will be written to in the Chrome trace event
+     * format. A relative path is resolved against the output directory. If none
+     * is set by the user, no trace is written and the build step summary is only
+     * logged at debug level.
+     *
+     * @param buildTraceFile build trace file
+     * @return this phase instance
+     */
+    public AugmentPhase setBuildTraceFile(Path buildTraceFile) {
+        this.buildTraceFile = buildTraceFile;
+        return this;
+    }
+
+    /**
+     * Whether to write the reflection, resource, proxy and service provider
+     * registrations for the native image, with the build steps that requested
+     * them, to {@value SubstrateRegistrationReport#FILE_NAME} in the output
+     * directory. A summary of the build steps with the largest registrations
+     * is logged. Disabled by default.
+     *
+     * @param substrateRegistrationReport whether to report the native image registrations
+     * @return this phase instance
+     */
+    public AugmentPhase setSubstrateRegistrationReport(boolean substrateRegistrationReport) {
+        this.substrateRegistrationReport = substrateRegistrationReport;
+        return this;
+    }
+
     @Override
     public Path getAppClassesDir() {
         return appClassesDir;
@@ -313,10 +349,19 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
                 builder.setOutput(classOutput);
                 builder.addFinal(BytecodeTransformerBuildItem.class).addFinal(MainClassBuildItem.class)
                         .addFinal(SubstrateOutputBuildItem.class);
+                if (substrateRegistrationReport) {
+                    for (Class<? extends MultiBuildItem> i : SubstrateRegistrationReport.ITEM_TYPES) {
+                        builder.addFinal(i);
+                    }
+                }
                 result = builder.build().run();
             } finally {
                 Thread.currentThread().setContextClassLoader(old);
             }
+            reportBuildProfile(result.getProfile());
+            if (substrateRegistrationReport) {
+                reportSubstrateRegistrations(result, runnerClassLoader);
+            }
 
             final List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems = result
                     .consumeMulti(BytecodeTransformerBuildItem.class);
@@ -447,6 +492,26 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
         return "augment";
     }
 
+    private void reportBuildProfile(BuildProfile profile) throws IOException {
+        if (buildTraceFile != null) {
+            final Path traceFile = outputDir.resolve(buildTraceFile);
+            IoUtils.mkdirs(traceFile.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8)) {
+                profile.writeTraceEvents(writer);
+            }
+            log.infof("Build step trace written to %s%n%s", traceFile, profile.getSummary(BUILD_SUMMARY_STEPS));
+        } else if (log.isDebugEnabled()) {
+            log.debug(profile.getSummary(BUILD_SUMMARY_STEPS));
+        }
+    }
+
+    private void reportSubstrateRegistrations(BuildResult result, ClassLoader classLoader) throws IOException {
+        final SubstrateRegistrationReport report = SubstrateRegistrationReport.create(result, classLoader);
+        final Path reportFile = outputDir.resolve(SubstrateRegistrationReport.FILE_NAME);
+        report.write(reportFile);
+        log.infof("Native image registrations written to %s%n%s", reportFile, report.getSummary(BUILD_SUMMARY_STEPS));
+    }
+
     @Override
     public PropertiesHandler<AugmentPhase> getPropertiesHandler() {
         return new MappedPropertiesHandler<AugmentPhase>() {
@@ -458,6 +523,9 @@ public class AugmentPhase implements AppCreationPhase<AugmentPhase>, AugmentOutc
                 .map("output", (AugmentPhase t, String value) -> t.setOutputDir(Paths.get(value)))
                 .map("classes", (AugmentPhase t, String value) -> t.setAppClassesDir(Paths.get(value)))
                 .map("transformed-classes", (AugmentPhase t, String value) -> t.setTransformedClassesDir(Paths.get(value)))
-                .map("wiring-classes", (AugmentPhase t, String value) -> t.setWiringClassesDir(Paths.get(value)));
+                .map("wiring-classes", (AugmentPhase t, String value) -> t.setWiringClassesDir(Paths.get(value)))
+                .map("build-trace", (AugmentPhase t, String value) -> t.setBuildTraceFile(Paths.get(value)))
+                .map("substrate-registration-report",
+                        (AugmentPhase t, String value) -> t.setSubstrateRegistrationReport(Boolean.parseBoolean(value)));
     }
 }
@@ -28,12 +28,15 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.config.Config;
 import org.jboss.logging.Logger;
@@ -58,6 +61,8 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
 
     private static final Logger log = Logger.getLogger(NativeImagePhase.class);
 
+    private static final String UNREACHED_REGISTRATIONS_FILE = "substrate-unreached-registrations.txt";
+
     private static final String GRAALVM_HOME = "GRAALVM_HOME";
 
     private static final String QUARKUS_PREFIX = "quarkus.";
@@ -106,6 +111,8 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
 
     private boolean disableReports;
 
+    private boolean reportUnreachedRegistrations;
+
     private List<String> additionalBuildArgs;
 
     public NativeImagePhase setOutputDir(Path outputDir) {
@@ -213,6 +220,15 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
         return this;
     }
 
+    /**
+     * Whether to list the reflection registrations of classes that the image analysis found to be unused
+     * after the image is built. Requires the registration report of the augmentation and the image reports.
+     */
+    public NativeImagePhase setReportUnreachedRegistrations(boolean reportUnreachedRegistrations) {
+        this.reportUnreachedRegistrations = reportUnreachedRegistrations;
+        return this;
+    }
+
     public NativeImagePhase setAdditionalBuildArgs(List<String> additionalBuildArgs) {
         this.additionalBuildArgs = additionalBuildArgs;
         return this;
@@ -437,6 +453,10 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
             }
             System.setProperty("native.image.path", runnerJarName.substring(0, runnerJarName.lastIndexOf('.')));
 
+            if (reportUnreachedRegistrations) {
+                reportUnreachedRegistrations();
+            }
+
             ctx.pushOutcome(NativeImageOutcome.class, this);
         } catch (Exception e) {
             throw new AppCreatorException("Failed to build native image", e);
@@ -450,6 +470,42 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
         }
     }
 
+    private void reportUnreachedRegistrations() throws IOException {
+        final Path registrationsFile = outputDir.resolve(SubstrateRegistrationReport.FILE_NAME);
+        if (!Files.exists(registrationsFile)) {
+            log.warnf("Unable to report unreached registrations: %s was not found, "
+                    + "enable the substrate registration report of the augmentation", registrationsFile);
+            return;
+        }
+        final Path usedClassesFile = findLatestReport("used_classes_");
+        if (disableReports || usedClassesFile == null) {
+            log.warn("Unable to report unreached registrations: the native image reports are disabled or were not found");
+            return;
+        }
+        final Set<String> usedClasses;
+        try (Stream<String> lines = Files.lines(usedClassesFile, StandardCharsets.UTF_8)) {
+            usedClasses = lines.map(String::trim).collect(Collectors.toSet());
+        }
+        final List<SubstrateRegistrationReport.Registration> unreached = SubstrateRegistrationReport.read(registrationsFile)
+                .getUnreached(usedClasses);
+        final Path unreachedFile = outputDir.resolve(UNREACHED_REGISTRATIONS_FILE);
+        Files.write(unreachedFile, unreached.stream().map(Object::toString).collect(Collectors.toList()),
+                StandardCharsets.UTF_8);
+        log.infof("%d registered classes are not used by the native image, see %s", unreached.size(), unreachedFile);
+    }
+
+    private Path findLatestReport(String prefix) throws IOException {
+        final Path reportsDir = outputDir.resolve("reports");
+        if (!Files.isDirectory(reportsDir)) {
+            return null;
+        }
+        try (Stream<Path> reports = Files.list(reportsDir)) {
+            return reports.filter(p -> p.getFileName().toString().startsWith(prefix))
+                    .max(Comparator.comparing(p -> p.toFile().lastModified()))
+                    .orElse(null);
+        }
+    }
+
     //FIXME remove after transition period
     private boolean isThisGraalVMRCObsolete() {
         final String vmName = System.getProperty("java.vm.name");
@@ -563,6 +619,9 @@ public class NativeImagePhase implements AppCreationPhase<NativeImagePhase>, Nat
                     case "disable-reports":
                         t.setDisableReports(Boolean.parseBoolean(value));
                         break;
+                    case "report-unreached-registrations":
+                        t.setReportUnreachedRegistrations(Boolean.parseBoolean(value));
+                        break;
                     case "additional-build-args":
                         t.setAdditionalBuildArgs(Arrays.asList(value.split(",")));
                         break;
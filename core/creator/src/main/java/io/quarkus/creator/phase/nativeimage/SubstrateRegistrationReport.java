@@ -0,0 +1,309 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.creator.phase.nativeimage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.builder.BuildResult;
+import org.jboss.builder.item.BuildItem;
+import org.jboss.builder.item.MultiBuildItem;
+
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveFieldBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveHierarchyBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveMethodBuildItem;
+import io.quarkus.deployment.builditem.substrate.ServiceProviderBuildItem;
+import io.quarkus.deployment.builditem.substrate.SubstrateProxyDefinitionBuildItem;
+import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
+import io.quarkus.deployment.builditem.substrate.SubstrateResourceBundleBuildItem;
+
+/**
+ * The reflection, resource, proxy and service provider registrations made for the native image, with the
+ * build step that requested each of them and a rough estimate of what they add to the image.
+ * <p>
+ * Classes are estimated by the size of their class file and resources by their size. Registrations of
+ * single methods and fields, proxies and resource bundles are not estimated. Classes discovered from a
+ * type hierarchy are attributed to the step that requested the hierarchy, which is listed with its root.
+ * <p>
+ * The report is written as tab separated values, one registration per line.
+ */
+public final class SubstrateRegistrationReport {
+
+    public static final String FILE_NAME = "substrate-registrations.tsv";
+
+    /**
+     * The build items the report is created from. They have to be final items of the build.
+     */
+    public static final List<Class<? extends MultiBuildItem>> ITEM_TYPES = Collections.unmodifiableList(Arrays.asList(
+            ReflectiveClassBuildItem.class,
+            ReflectiveMethodBuildItem.class,
+            ReflectiveFieldBuildItem.class,
+            ReflectiveHierarchyBuildItem.class,
+            SubstrateResourceBuildItem.class,
+            SubstrateResourceBundleBuildItem.class,
+            SubstrateProxyDefinitionBuildItem.class,
+            ServiceProviderBuildItem.class));
+
+    private static final String UNKNOWN_PRODUCER = "<unknown>";
+    private static final String HEADER = "# producer\tkind\tname\testimated bytes";
+
+    public static final class Registration {
+
+        private final String producer;
+        private final String kind;
+        private final String name;
+        private final long estimatedSize;
+
+        Registration(String producer, String kind, String name, long estimatedSize) {
+            this.producer = producer;
+            this.kind = kind;
+            this.name = name;
+            this.estimatedSize = estimatedSize;
+        }
+
+        public String getProducer() {
+            return producer;
+        }
+
+        /**
+         * @return one of {@code class}, {@code method}, {@code field}, {@code hierarchy}, {@code resource},
+         *         {@code resource-bundle}, {@code proxy} or {@code service-provider}
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the estimated size in bytes, or 0 if it is not estimated
+         */
+        public long getEstimatedSize() {
+            return estimatedSize;
+        }
+
+        /**
+         * @return the name of the class the registration keeps in the image, or {@code null} if it is not
+         *         about a single class
+         */
+        public String getClassName() {
+            switch (kind) {
+                case "class":
+                case "service-provider":
+                    return name;
+                case "method":
+                case "field":
+                    return name.substring(0, name.indexOf('#'));
+                default:
+                    return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + name + " (" + producer + ")";
+        }
+    }
+
+    private final List<Registration> registrations;
+
+    private SubstrateRegistrationReport(List<Registration> registrations) {
+        this.registrations = registrations;
+    }
+
+    public List<Registration> getRegistrations() {
+        return Collections.unmodifiableList(registrations);
+    }
+
+    /**
+     * @param result the result of a build that has the {@link #ITEM_TYPES} as final items
+     * @param classLoader the class loader used to estimate the size of classes and resources
+     * @return the report
+     */
+    public static SubstrateRegistrationReport create(BuildResult result, ClassLoader classLoader) {
+        final List<Registration> registrations = new ArrayList<>();
+        final Map<String, Long> sizes = new HashMap<>();
+        for (ReflectiveClassBuildItem i : result.consumeMulti(ReflectiveClassBuildItem.class)) {
+            final String producer = producer(result, i.getHierarchy() != null ? i.getHierarchy() : i);
+            for (String className : i.getClassNames()) {
+                registrations.add(new Registration(producer, "class", className,
+                        classSize(className, classLoader, sizes)));
+            }
+        }
+        for (ReflectiveMethodBuildItem i : result.consumeMulti(ReflectiveMethodBuildItem.class)) {
+            registrations.add(new Registration(producer(result, i), "method",
+                    i.getDeclaringClass() + "#" + i.getName() + "(" + String.join(",", i.getParams()) + ")", 0));
+        }
+        for (ReflectiveFieldBuildItem i : result.consumeMulti(ReflectiveFieldBuildItem.class)) {
+            registrations.add(new Registration(producer(result, i), "field", i.getDeclaringClass() + "#" + i.getName(), 0));
+        }
+        for (ReflectiveHierarchyBuildItem i : result.consumeMulti(ReflectiveHierarchyBuildItem.class)) {
+            registrations.add(new Registration(producer(result, i), "hierarchy", i.getType().toString(), 0));
+        }
+        for (SubstrateResourceBuildItem i : result.consumeMulti(SubstrateResourceBuildItem.class)) {
+            for (String resource : i.getResources()) {
+                registrations.add(new Registration(producer(result, i), "resource", resource,
+                        resourceSize(resource, classLoader)));
+            }
+        }
+        for (SubstrateResourceBundleBuildItem i : result.consumeMulti(SubstrateResourceBundleBuildItem.class)) {
+            registrations.add(new Registration(producer(result, i), "resource-bundle", i.getBundleName(), 0));
+        }
+        for (SubstrateProxyDefinitionBuildItem i : result.consumeMulti(SubstrateProxyDefinitionBuildItem.class)) {
+            registrations.add(new Registration(producer(result, i), "proxy", String.join(",", i.getClasses()), 0));
+        }
+        for (ServiceProviderBuildItem i : result.consumeMulti(ServiceProviderBuildItem.class)) {
+            final String producer = producer(result, i);
+            registrations.add(new Registration(producer, "resource", i.serviceDescriptorFile(),
+                    resourceSize(i.serviceDescriptorFile(), classLoader)));
+            for (String provider : i.providers()) {
+                registrations.add(new Registration(producer, "service-provider", provider,
+                        classSize(provider, classLoader, sizes)));
+            }
+        }
+        registrations.sort(Comparator.comparing(Registration::getProducer)
+                .thenComparing(Comparator.comparingLong(Registration::getEstimatedSize).reversed())
+                .thenComparing(Registration::getName));
+        return new SubstrateRegistrationReport(registrations);
+    }
+
+    public void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Registration i : registrations) {
+                writer.write(i.producer + '\t' + i.kind + '\t' + i.name + '\t' + i.estimatedSize);
+                writer.newLine();
+            }
+        }
+    }
+
+    public static SubstrateRegistrationReport read(Path file) throws IOException {
+        final List<Registration> registrations = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                final String[] parts = line.split("\t");
+                if (parts.length != 4) {
+                    throw new IOException("Unexpected line in " + file + ": " + line);
+                }
+                registrations.add(new Registration(parts[0], parts[1], parts[2], Long.parseLong(parts[3])));
+            }
+        }
+        return new SubstrateRegistrationReport(registrations);
+    }
+
+    /**
+     * @param limit the maximum number of build steps to list
+     * @return the number of registrations and their estimated size for the build steps with the largest estimates
+     */
+    public String getSummary(int limit) {
+        final Map<String, long[]> byProducer = new LinkedHashMap<>();
+        long total = 0;
+        for (Registration i : registrations) {
+            final long[] stats = byProducer.computeIfAbsent(i.producer, p -> new long[2]);
+            stats[0]++;
+            stats[1] += i.estimatedSize;
+            total += i.estimatedSize;
+        }
+        final List<Map.Entry<String, long[]>> sorted = new ArrayList<>(byProducer.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed());
+        final StringBuilder summary = new StringBuilder();
+        summary.append(registrations.size()).append(" native image registrations by ").append(byProducer.size())
+                .append(" build steps, estimated at ").append(total / 1024).append(" KB");
+        for (Map.Entry<String, long[]> entry : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            summary.append(System.lineSeparator()).append("  ").append(entry.getValue()[1] / 1024).append(" KB, ")
+                    .append(entry.getValue()[0]).append(" registrations: ").append(entry.getKey());
+        }
+        return summary.toString();
+    }
+
+    /**
+     * @param usedClasses the classes the native image analysis found to be used
+     * @return the registrations of classes that none of the reachable code uses
+     */
+    public List<Registration> getUnreached(Set<String> usedClasses) {
+        final List<Registration> unreached = new ArrayList<>();
+        for (Registration i : registrations) {
+            final String className = i.getClassName();
+            if (className != null && !usedClasses.contains(className)) {
+                unreached.add(i);
+            }
+        }
+        return unreached;
+    }
+
+    private static String producer(BuildResult result, BuildItem item) {
+        final String producer = result.getProducer(item);
+        return producer == null ? UNKNOWN_PRODUCER : producer.replace('\t', ' ');
+    }
+
+    private static long classSize(String className, ClassLoader classLoader, Map<String, Long> sizes) {
+        return sizes.computeIfAbsent(className, n -> {
+            final URL url = classLoader.getResource(n.replace('.', '/') + ".class");
+            return url == null ? 0L : size(url);
+        });
+    }
+
+    private static long resourceSize(String resource, ClassLoader classLoader) {
+        long size = 0;
+        try {
+            final Enumeration<URL> urls = classLoader.getResources(resource);
+            while (urls.hasMoreElements()) {
+                size += size(urls.nextElement());
+            }
+        } catch (IOException e) {
+            // not estimated
+        }
+        return size;
+    }
+
+    private static long size(URL url) {
+        try {
+            final URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            final long size = connection.getContentLengthLong();
+            connection.getInputStream().close();
+            return Math.max(size, 0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.creator.phase.runnerjar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.creator.AppCreatorException;
+
+/**
+ * Generates an AppCDS archive for a runner JAR.
+ * <p>
+ * The application is started once with {@code -XX:DumpLoadedClassList} and stopped as soon as it reports
+ * that it started, then the recorded class list is dumped into a shared archive. The archive records the
+ * class path and JVM it was created with, so it is created relative to the output directory and the generated
+ * launch script runs the application from that directory with the JVM that created the archive.
+ */
+final class AppCdsBuilder {
+
+    private static final Logger log = Logger.getLogger(AppCdsBuilder.class);
+
+    private static final String STARTED_MESSAGE = " started in ";
+    private static final long TRAINING_TIMEOUT_SECONDS = 120;
+    private static final long DUMP_TIMEOUT_SECONDS = 300;
+
+    private final Path outputDir;
+    private final Path runnerJar;
+    private final String finalName;
+
+    AppCdsBuilder(Path outputDir, Path runnerJar, String finalName) {
+        this.outputDir = outputDir;
+        this.runnerJar = runnerJar;
+        this.finalName = finalName;
+    }
+
+    /**
+     * Creates the archive and the launch script.
+     *
+     * @return the archive or {@code null} if it could not be created
+     * @throws AppCreatorException in case of an unexpected failure
+     */
+    Path build() throws AppCreatorException {
+        final String specVersion = System.getProperty("java.specification.version");
+        if (specVersion.startsWith("1.")) {
+            log.warn("AppCDS archives require Java 10 or newer, skipping the archive generation for " + specVersion);
+            return null;
+        }
+        final String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        final String jarName = runnerJar.getFileName().toString();
+        final Path classList = outputDir.resolve(finalName + ".classlist");
+        final Path archive = outputDir.resolve(finalName + "-cds.jsa");
+        try {
+            Files.deleteIfExists(classList);
+            Files.deleteIfExists(archive);
+
+            log.info("Performing a training run of " + jarName + " to create the AppCDS class list");
+            if (!trainingRun(trainingCommand(java, classList.getFileName().toString(), freePort(), jarName))
+                    || !Files.exists(classList)) {
+                return null;
+            }
+
+            log.info("Creating AppCDS archive " + archive);
+            final Process dump = new ProcessBuilder(
+                    dumpCommand(java, classList.getFileName().toString(), archive.getFileName().toString(), jarName))
+                            .directory(outputDir.toFile())
+                            .redirectErrorStream(true)
+                            .redirectOutput(outputDir.resolve(finalName + "-cds.log").toFile())
+                            .start();
+            if (!dump.waitFor(DUMP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                dump.destroyForcibly();
+                log.warn("Timed out creating the AppCDS archive");
+                return null;
+            }
+            if (dump.exitValue() != 0 || !Files.exists(archive)) {
+                log.warn("Failed to create the AppCDS archive, see " + finalName + "-cds.log for details");
+                return null;
+            }
+
+            writeLaunchScript(java, archive);
+            return archive;
+        } catch (IOException e) {
+            throw new AppCreatorException("Failed to create the AppCDS archive for " + runnerJar, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppCreatorException("Interrupted while creating the AppCDS archive for " + runnerJar, e);
+        }
+    }
+
+    private boolean trainingRun(List<String> command) throws IOException, InterruptedException {
+        final Process process = new ProcessBuilder(command)
+                .directory(outputDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        // counted down once the application reported that it started or its output ended
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicBoolean started = new AtomicBoolean();
+        final List<String> output = new ArrayList<>();
+        final Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    synchronized (output) {
+                        output.add(line);
+                    }
+                    if (line.contains(STARTED_MESSAGE) && started.compareAndSet(false, true)) {
+                        done.countDown();
+                    }
+                }
+            } catch (IOException e) {
+                // the process was stopped
+            } finally {
+                done.countDown();
+            }
+        }, "AppCDS training run output");
+        reader.setDaemon(true);
+        reader.start();
+
+        done.await(TRAINING_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // a regular shutdown lets the JVM finish writing the class list
+        process.destroy();
+        if (!process.waitFor(TRAINING_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+        reader.join(TimeUnit.SECONDS.toMillis(5));
+        if (!started.get()) {
+            synchronized (output) {
+                log.warn("The AppCDS training run did not start successfully, skipping the archive generation:\n"
+                        + String.join("\n", output));
+            }
+        }
+        return started.get();
+    }
+
+    private void writeLaunchScript(String java, Path archive) throws IOException {
+        final Path script = outputDir.resolve(finalName + "-runner.sh");
+        final String content = launchScript(java, archive.getFileName().toString(), runnerJar.getFileName().toString());
+        Files.write(script, content.getBytes(StandardCharsets.UTF_8));
+        script.toFile().setExecutable(true, false);
+        log.info("Run the application with " + script.getFileName() + ", the AppCDS archive only works with " + java);
+    }
+
+    static List<String> trainingCommand(String java, String classList, int port, String jarName) {
+        return Arrays.asList(java, "-XX:DumpLoadedClassList=" + classList, "-Dquarkus.http.port=" + port, "-jar", jarName);
+    }
+
+    static List<String> dumpCommand(String java, String classList, String archive, String jarName) {
+        return Arrays.asList(java, "-Xshare:dump", "-XX:SharedClassListFile=" + classList,
+                "-XX:SharedArchiveFile=" + archive, "-cp", jarName);
+    }
+
+    /**
+     * The script runs the JVM that created the archive, as the archive is rejected by any other JVM.
+     */
+    static String launchScript(String java, String archive, String jarName) {
+        return "#!/bin/sh\n"
+                + "# Launches " + jarName + " with the AppCDS archive " + archive + ".\n"
+                + "# The archive is only used with the same JVM and class path it was created with, otherwise the JVM\n"
+                + "# silently falls back to loading the classes from the JAR.\n"
+                + "cd \"$(dirname \"$0\")\" || exit 1\n"
+                + "exec " + quote(java) + " -XX:SharedArchiveFile=" + quote(archive) + " -Xshare:auto $JAVA_OPTS -jar "
+                + quote(jarName) + " \"$@\"\n";
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "'\\''") + "'";
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
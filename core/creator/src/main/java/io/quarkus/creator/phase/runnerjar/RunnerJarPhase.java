@@ -36,14 +36,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.jboss.logging.Logger;
 
@@ -60,6 +65,9 @@ import io.quarkus.creator.phase.augment.AugmentOutcome;
 import io.quarkus.creator.phase.curate.CurateOutcome;
 import io.quarkus.creator.util.IoUtils;
 import io.quarkus.creator.util.ZipUtils;
+import io.quarkus.runtime.launcher.IndexedClassLoader;
+import io.quarkus.runtime.launcher.IndexedLauncher;
+import io.quarkus.runtime.launcher.JarIndex;
 
 /**
  * Based on the provided {@link io.quarkus.creator.phase.augment.AugmentOutcome},
@@ -72,6 +80,13 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
     private static final String DEFAULT_MAIN_CLASS = "io.quarkus.runner.GeneratedMain";
     private static final String PROVIDED = "provided";
 
+    private static final List<String> LAUNCHER_CLASSES = Arrays.asList(
+            IndexedLauncher.class.getName(),
+            IndexedClassLoader.class.getName(),
+            IndexedClassLoader.class.getName() + "$IndexedJar",
+            JarIndex.class.getName(),
+            JarIndex.Builder.class.getName());
+
     private static final Logger log = Logger.getLogger(RunnerJarPhase.class);
 
     private static final Set<String> IGNORED_ENTRIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
@@ -100,6 +115,10 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
 
     private boolean uberJar;
 
+    private boolean appCds;
+
+    private boolean indexedJar;
+
     /**
      * Output directory for the outcome of this phase.
      * If not set by the user the work directory of the creator
@@ -160,6 +179,34 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
         return this;
     }
 
+    /**
+     * Whether to generate an AppCDS archive for the runnable JAR by running
+     * the application once to record the classes it loads during startup.
+     * The archive is used by the generated launch script. The default is false.
+     *
+     * @param appCds whether to generate an AppCDS archive
+     * @return this phase instance
+     */
+    public RunnerJarPhase setAppCds(boolean appCds) {
+        this.appCds = appCds;
+        return this;
+    }
+
+    /**
+     * Whether to build the runnable JAR with the indexed layout. The dependencies are
+     * still copied into the lib directory but instead of listing them in the manifest
+     * class path, the runnable JAR contains an index mapping each directory to the
+     * JARs providing it, and a launcher loading the application with a class loader
+     * that uses the index. This option does not apply to uber JARs. The default is false.
+     *
+     * @param indexedJar whether to build the runnable JAR with the indexed layout
+     * @return this phase instance
+     */
+    public RunnerJarPhase setIndexedJar(boolean indexedJar) {
+        this.indexedJar = indexedJar;
+        return this;
+    }
+
     @Override
     public Path getRunnerJar() {
         return runnerJar;
@@ -191,6 +238,10 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
             }
         }
 
+        if (indexedJar && uberJar) {
+            throw new AppCreatorException("The indexed jar layout cannot be used for an uber jar");
+        }
+
         runnerJar = outputDir.resolve(finalName + "-runner.jar");
         IoUtils.recursiveDelete(runnerJar);
         try (FileSystem zipFs = ZipUtils.newZip(runnerJar)) {
@@ -205,6 +256,10 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
             log.warn("Unable to set proper permissions on " + runnerJar);
         }
 
+        if (appCds) {
+            new AppCdsBuilder(outputDir, runnerJar, finalName).build();
+        }
+
         // when using uberJar, we rename the standard jar to include the .original suffix
         // this greatly aids tools (such as s2i) that look for a single jar in the output directory to work OOTB
         if (uberJar) {
@@ -231,6 +286,7 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
         final Map<String, String> seen = new HashMap<>();
         final Map<String, Set<AppDependency>> duplicateCatcher = new HashMap<>();
         final StringBuilder classPath = new StringBuilder();
+        final Map<String, Path> libJars = new LinkedHashMap<>();
         final Map<String, List<byte[]>> services = new HashMap<>();
 
         for (AppDependency appDep : appDeps) {
@@ -287,6 +343,7 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
                 final Path targetPath = libDir.resolve(fileName);
                 Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
                 classPath.append(" lib/" + fileName);
+                libJars.put("lib/" + fileName, targetPath);
             }
         }
         Set<Set<AppDependency>> explained = new HashSet<>();
@@ -329,8 +386,13 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
 
         final Manifest manifest = new Manifest();
         manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
-        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath.toString());
-        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+        if (indexedJar) {
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, IndexedLauncher.class.getName());
+            manifest.getMainAttributes().putValue(JarIndex.MAIN_CLASS_ATTRIBUTE, mainClass);
+        } else {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath.toString());
+            manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+        }
         try (OutputStream os = Files.newOutputStream(runnerZipFs.getPath("META-INF", "MANIFEST.MF"))) {
             manifest.write(os);
         }
@@ -346,6 +408,51 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
                 }
             }
         }
+
+        if (indexedJar) {
+            writeJarIndex(runnerZipFs, libJars);
+        }
+    }
+
+    private void writeJarIndex(FileSystem runnerZipFs, Map<String, Path> libJars) throws IOException {
+        for (String launcherClass : LAUNCHER_CLASSES) {
+            final String resource = launcherClass.replace('.', '/') + ".class";
+            try (InputStream in = RunnerJarPhase.class.getClassLoader().getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IOException("Failed to locate " + resource);
+                }
+                final Path target = runnerZipFs.getPath(resource);
+                Files.createDirectories(target.getParent());
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        final JarIndex.Builder index = JarIndex.builder();
+        // the runner jar comes first, as it does on the manifest class path
+        final Path root = runnerZipFs.getPath("/");
+        final List<String> runnerEntries = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(p -> !p.equals(root)).forEach(p -> {
+                final String entry = root.relativize(p).toString();
+                // directory entries are indexed too, so that directories can be looked up as resources
+                runnerEntries.add(Files.isDirectory(p) ? entry + "/" : entry);
+            });
+        }
+        runnerEntries.add(JarIndex.RESOURCE);
+        index.addJar(runnerJar.getFileName().toString(), runnerEntries);
+        for (Map.Entry<String, Path> libJar : libJars.entrySet()) {
+            final List<String> entries = new ArrayList<>();
+            try (ZipFile zip = new ZipFile(libJar.getValue().toFile())) {
+                final Enumeration<? extends ZipEntry> e = zip.entries();
+                while (e.hasMoreElements()) {
+                    entries.add(e.nextElement().getName());
+                }
+            }
+            index.addJar(libJar.getKey(), entries);
+        }
+        try (OutputStream os = Files.newOutputStream(runnerZipFs.getPath(JarIndex.RESOURCE))) {
+            index.build().write(os);
+        }
     }
 
     private void copyFiles(Path dir, FileSystem fs) throws IOException {
@@ -410,6 +517,8 @@ public class RunnerJarPhase implements AppCreationPhase<RunnerJarPhase>, RunnerJ
                 .map("lib", (RunnerJarPhase t, String value) -> t.setLibDir(Paths.get(value)))
                 .map("final-name", RunnerJarPhase::setFinalName)
                 .map("main-class", RunnerJarPhase::setMainClass)
-                .map("uber-jar", (RunnerJarPhase t, String value) -> t.setUberJar(Boolean.parseBoolean(value)));
+                .map("uber-jar", (RunnerJarPhase t, String value) -> t.setUberJar(Boolean.parseBoolean(value)))
+                .map("app-cds", (RunnerJarPhase t, String value) -> t.setAppCds(Boolean.parseBoolean(value)))
+                .map("indexed-jar", (RunnerJarPhase t, String value) -> t.setIndexedJar(Boolean.parseBoolean(value)));
     }
 }
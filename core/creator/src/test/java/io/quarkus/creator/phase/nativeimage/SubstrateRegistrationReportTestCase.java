@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.quarkus.creator.phase.nativeimage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.jboss.builder.BuildChain;
+import org.jboss.builder.BuildChainBuilder;
+import org.jboss.builder.BuildContext;
+import org.jboss.builder.BuildResult;
+import org.jboss.builder.BuildStep;
+import org.jboss.builder.item.MultiBuildItem;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.junit.Test;
+
+import io.quarkus.creator.phase.nativeimage.SubstrateRegistrationReport.Registration;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveHierarchyBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveMethodBuildItem;
+import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
+
+public class SubstrateRegistrationReportTestCase {
+
+    private static final String RESOURCE = SubstrateRegistrationReportTestCase.class.getName().replace('.', '/') + ".class";
+
+    @Test
+    public void testCreate() throws Exception {
+        final SubstrateRegistrationReport report = SubstrateRegistrationReport.create(build(), getClass().getClassLoader());
+        final List<Registration> registrations = report.getRegistrations();
+        assertEquals(5, registrations.size());
+
+        final Registration hierarchy = find(report, "hierarchy", Reached.class.getName());
+        assertEquals("hierarchy-step", hierarchy.getProducer());
+        // the class discovered from the hierarchy is attributed to the step that requested the hierarchy
+        final Registration discovered = find(report, "class", Reached.class.getName());
+        assertEquals("hierarchy-step", discovered.getProducer());
+        assertTrue(discovered.getEstimatedSize() > 0);
+
+        final Registration direct = find(report, "class", Unreached.class.getName());
+        assertEquals("direct-step", direct.getProducer());
+        assertTrue(direct.getEstimatedSize() > 0);
+        final Registration resource = find(report, "resource", RESOURCE);
+        assertEquals(Files.size(Paths.get(getClass().getClassLoader().getResource(RESOURCE).toURI())),
+                resource.getEstimatedSize());
+        final Registration method = find(report, "method", Unreached.class.getName() + "#run()");
+        assertEquals(0, method.getEstimatedSize());
+        assertEquals(Unreached.class.getName(), method.getClassName());
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        final SubstrateRegistrationReport report = SubstrateRegistrationReport.create(build(), getClass().getClassLoader());
+        final Path file = Files.createTempFile("registrations", ".tsv");
+        try {
+            report.write(file);
+            final SubstrateRegistrationReport read = SubstrateRegistrationReport.read(file);
+            assertEquals(describe(report), describe(read));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testUnreached() throws Exception {
+        final SubstrateRegistrationReport report = SubstrateRegistrationReport.create(build(), getClass().getClassLoader());
+        final List<String> unreached = new ArrayList<>();
+        for (Registration i : report.getUnreached(Collections.singleton(Reached.class.getName()))) {
+            unreached.add(i.getKind() + " " + i.getName());
+        }
+        Collections.sort(unreached);
+        assertEquals(Arrays.asList("class " + Unreached.class.getName(), "method " + Unreached.class.getName() + "#run()"),
+                unreached);
+        assertEquals(Collections.emptyList(),
+                report.getUnreached(new HashSet<>(Arrays.asList(Reached.class.getName(), Unreached.class.getName()))));
+    }
+
+    @Test
+    public void testSummary() throws Exception {
+        final SubstrateRegistrationReport report = SubstrateRegistrationReport.create(build(), getClass().getClassLoader());
+        final String[] lines = report.getSummary(1).split(System.lineSeparator());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0], lines[0].startsWith("5 native image registrations by 2 build steps, estimated at "));
+        assertTrue(lines[1], lines[1].endsWith(" KB, 3 registrations: direct-step"));
+        assertEquals(3, report.getSummary(5).split(System.lineSeparator()).length);
+    }
+
+    private static BuildResult build() throws Exception {
+        final BuildChainBuilder builder = BuildChain.builder();
+        builder.addBuildStep(step("direct-step", context -> {
+            context.produce(new ReflectiveClassBuildItem(true, false, Unreached.class.getName()));
+            context.produce(new ReflectiveMethodBuildItem(Unreached.class.getDeclaredMethod("run")));
+            context.produce(new SubstrateResourceBuildItem(RESOURCE));
+        })).produces(ReflectiveClassBuildItem.class).produces(ReflectiveMethodBuildItem.class)
+                .produces(SubstrateResourceBuildItem.class).build();
+        builder.addBuildStep(step("hierarchy-step", context -> context.produce(new ReflectiveHierarchyBuildItem(
+                Type.create(DotName.createSimple(Reached.class.getName()), Type.Kind.CLASS)))))
+                .produces(ReflectiveHierarchyBuildItem.class).build();
+        // stands for ReflectiveHierarchyStep
+        builder.addBuildStep(step("expanding-step", context -> {
+            for (ReflectiveHierarchyBuildItem i : context.consumeMulti(ReflectiveHierarchyBuildItem.class)) {
+                context.produce(new ReflectiveClassBuildItem(i, true, true, i.getType().name().toString()));
+            }
+        })).consumes(ReflectiveHierarchyBuildItem.class).produces(ReflectiveClassBuildItem.class).build();
+        for (Class<? extends MultiBuildItem> i : SubstrateRegistrationReport.ITEM_TYPES) {
+            builder.addFinal(i);
+        }
+        return builder.build().createExecutionBuilder("test").execute();
+    }
+
+    private static BuildStep step(String name, Body body) {
+        return new BuildStep() {
+            @Override
+            public void execute(BuildContext context) {
+                try {
+                    body.execute(context);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    private static Registration find(SubstrateRegistrationReport report, String kind, String name) {
+        for (Registration i : report.getRegistrations()) {
+            if (i.getKind().equals(kind) && i.getName().equals(name)) {
+                return i;
+            }
+        }
+        throw new AssertionError("No " + kind + " registration of " + name + " in " + report.getRegistrations());
+    }
+
+    private static List<String> describe(SubstrateRegistrationReport report) {
+        final List<String> result = new ArrayList<>();
+        for (Registration i : report.getRegistrations()) {
+            result.add(i + " " + i.getEstimatedSize());
+        }
+        return result;
+    }
+
+    interface Body {
+        void execute(BuildContext context) throws Exception;
+    }
+
+    static class Reached {
+    }
+
+    static class Unreached {
+        void run() {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.creator.phase.runnerjar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.quarkus.creator.util.IoUtils;
+
+public class AppCdsBuilderTestCase {
+
+    private Path workDir;
+
+    @Before
+    public void setup() throws Exception {
+        workDir = IoUtils.createRandomTmpDir();
+    }
+
+    @After
+    public void cleanup() {
+        IoUtils.recursiveDelete(workDir);
+    }
+
+    @Test
+    public void testTrainingCommand() {
+        assertEquals(Arrays.asList("/jdk/bin/java", "-XX:DumpLoadedClassList=app.classlist", "-Dquarkus.http.port=12345",
+                "-jar", "app-runner.jar"),
+                AppCdsBuilder.trainingCommand("/jdk/bin/java", "app.classlist", 12345, "app-runner.jar"));
+    }
+
+    @Test
+    public void testDumpCommand() {
+        assertEquals(Arrays.asList("/jdk/bin/java", "-Xshare:dump", "-XX:SharedClassListFile=app.classlist",
+                "-XX:SharedArchiveFile=app-cds.jsa", "-cp", "app-runner.jar"),
+                AppCdsBuilder.dumpCommand("/jdk/bin/java", "app.classlist", "app-cds.jsa", "app-runner.jar"));
+    }
+
+    @Test
+    public void testLaunchScriptUsesDumpingJvm() {
+        final String script = AppCdsBuilder.launchScript("/opt/jdk 11/bin/java", "app-cds.jsa", "app-runner.jar");
+        assertTrue(script, script.startsWith("#!/bin/sh\n"));
+        assertTrue(script, script.contains("\nexec '/opt/jdk 11/bin/java' -XX:SharedArchiveFile='app-cds.jsa' "
+                + "-Xshare:auto $JAVA_OPTS -jar 'app-runner.jar' \"$@\"\n"));
+    }
+
+    @Test
+    public void testLaunchScriptRuns() throws Exception {
+        assumeTrue(Files.isExecutable(Paths.get("/bin/sh")));
+        // a fake JVM in a directory with a space and a quote in its name, printing its arguments
+        final Path java = IoUtils.mkdirs(workDir.resolve("it's a jdk")).resolve("java");
+        write(java, "#!/bin/sh\nfor a in \"$@\"; do echo \"$a\"; done\n");
+        java.toFile().setExecutable(true);
+        final Path app = IoUtils.mkdirs(workDir.resolve("app"));
+        final Path script = app.resolve("app-runner.sh");
+        write(script, AppCdsBuilder.launchScript(java.toString(), "app-cds.jsa", "app-runner.jar"));
+
+        final Process process = new ProcessBuilder("/bin/sh", script.toString(), "first arg", "second")
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+        final String output;
+        try (InputStream in = process.getInputStream()) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[1024];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            output = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(output, 0, process.exitValue());
+        assertEquals("-XX:SharedArchiveFile=app-cds.jsa\n-Xshare:auto\n-jar\napp-runner.jar\nfirst arg\nsecond\n", output);
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -29,8 +29,17 @@ public final class ReflectiveClassBuildItem extends MultiBuildItem {
     private final List<String> className;
     private final boolean methods;
     private final boolean fields;
+    private final ReflectiveHierarchyBuildItem hierarchy;
 
     public ReflectiveClassBuildItem(boolean methods, boolean fields, String... className) {
+        this(null, methods, fields, className);
+    }
+
+    /**
+     * @param hierarchy the hierarchy registration the classes were discovered from
+     */
+    public ReflectiveClassBuildItem(ReflectiveHierarchyBuildItem hierarchy, boolean methods, boolean fields,
+            String... className) {
         for (String i : className) {
             if (i == null) {
                 throw new NullPointerException();
@@ -39,6 +48,7 @@ public final class ReflectiveClassBuildItem extends MultiBuildItem {
         this.className = Arrays.asList(className);
         this.methods = methods;
         this.fields = fields;
+        this.hierarchy = hierarchy;
     }
 
     public List<String> getClassNames() {
@@ -52,4 +62,12 @@ public final class ReflectiveClassBuildItem extends MultiBuildItem {
     public boolean isFields() {
         return fields;
     }
+
+    /**
+     * @return the hierarchy registration the classes were discovered from, or {@code null} if they were registered
+     *         directly
+     */
+    public ReflectiveHierarchyBuildItem getHierarchy() {
+        return hierarchy;
+    }
 }
@@ -19,6 +19,7 @@ package io.quarkus.deployment.index;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -34,10 +35,12 @@ import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
 import org.jboss.jandex.Index;
@@ -65,6 +68,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfig indexCache;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -75,6 +80,23 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfig {
+        /**
+         * Whether the indexes computed for dependencies without a {@code META-INF/jandex.idx} should be
+         * stored and reused by subsequent builds. The least recently used indexes are removed once the
+         * directory holds more than {@value IndexCache#MAX_ENTRIES} of them.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean enabled;
+
+        /**
+         * The directory the computed indexes are stored in, {@code ~/.quarkus/index-cache} by default
+         */
+        @ConfigItem
+        Optional<String> directory;
+    }
+
     @BuildStep
     ApplicationArchivesBuildItem build(ArchiveRootBuildItem root, ApplicationIndexBuildItem appindex,
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers) throws IOException {
@@ -105,7 +127,16 @@ public class ApplicationArchiveBuildStep {
 
         dependenciesToIndex.addAll(additionalApplicationArchives);
 
-        return indexPaths(dependenciesToIndex, classLoader);
+        IndexCache cache = null;
+        if (indexCache.enabled) {
+            cache = new IndexCache(indexCache.directory.isPresent() ? Paths.get(indexCache.directory.get())
+                    : Paths.get(System.getProperty("user.home"), ".quarkus", "index-cache"));
+        }
+        List<ApplicationArchive> archives = indexPaths(dependenciesToIndex, classLoader, cache);
+        if (cache != null) {
+            cache.evict(IndexCache.MAX_ENTRIES);
+        }
+        return archives;
     }
 
     public List<Path> getIndexDependencyPaths(ClassLoader classLoader) {
@@ -129,25 +160,46 @@ public class ApplicationArchiveBuildStep {
         }
     }
 
-    private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader)
-            throws IOException {
-        List<ApplicationArchive> ret = new ArrayList<>();
+    private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
+            IndexCache cache) throws IOException {
+        List<Path> dependencies = new ArrayList<>(dependenciesToIndex);
+        // indexing is CPU bound and independent per archive
+        List<IndexView> indexes;
+        try {
+            indexes = dependencies.parallelStream()
+                    .map(dep -> indexDependency(dep, cache))
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-        for (final Path dep : dependenciesToIndex) {
-            LOGGER.debugf("Indexing dependency: %s", dep);
+        List<ApplicationArchive> ret = new ArrayList<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            final Path dep = dependencies.get(i);
             if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null));
+                ret.add(new ApplicationArchiveImpl(indexes.get(i), dep, null));
             } else {
-                IndexView index = handleJarPath(dep);
                 FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
-                ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs));
+                ret.add(new ApplicationArchiveImpl(indexes.get(i), fs.getRootDirectories().iterator().next(), fs));
             }
         }
 
         return ret;
     }
 
+    private static IndexView indexDependency(Path dep, IndexCache cache) {
+        LOGGER.debugf("Indexing dependency: %s", dep);
+        try {
+            if (Files.isDirectory(dep)) {
+                return handleFilePath(dep);
+            } else {
+                return handleJarPath(dep, cache);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static Collection<? extends Path> getMarkerFilePaths(ClassLoader classLoader, Set<String> applicationArchiveFiles)
             throws IOException {
         List<Path> ret = new ArrayList<>();
@@ -204,7 +256,7 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path) throws IOException {
+    private static Index handleJarPath(Path path, IndexCache cache) throws IOException {
         Indexer indexer = new Indexer();
         try (JarFile file = new JarFile(path.toFile())) {
             ZipEntry existing = file.getEntry(JANDEX_INDEX);
@@ -214,6 +266,13 @@ public class ApplicationArchiveBuildStep {
                     return r.read();
                 }
             }
+            if (cache != null) {
+                Index cached = cache.get(path);
+                if (cached != null) {
+                    LOGGER.debugf("Using cached index of %s", path);
+                    return cached;
+                }
+            }
 
             Enumeration<JarEntry> e = file.entries();
             while (e.hasMoreElements()) {
@@ -225,6 +284,10 @@ public class ApplicationArchiveBuildStep {
                 }
             }
         }
-        return indexer.complete();
+        Index index = indexer.complete();
+        if (cache != null) {
+            cache.put(path, index);
+        }
+        return index;
     }
 }
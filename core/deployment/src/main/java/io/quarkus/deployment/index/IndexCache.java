@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * A directory of Jandex indexes computed for archives that do not contain {@code META-INF/jandex.idx}.
+ * <p>
+ * Entries are keyed by the absolute path, size and last modified time of the archive, so a rebuilt or
+ * updated jar gets a new entry. Failing to read or write an entry is never fatal, the archive is simply
+ * indexed again. Entries are touched when they are used, so that {@link #evict(int)} removes the least
+ * recently used ones, including the entries of archives that no longer exist.
+ */
+final class IndexCache {
+
+    static final int MAX_ENTRIES = 500;
+
+    private static final Logger LOGGER = Logger.getLogger(IndexCache.class);
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    IndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    Index get(Path archive) {
+        final Path entry;
+        try {
+            entry = entryFor(archive);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        final Index index;
+        try (InputStream in = Files.newInputStream(entry)) {
+            index = new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Ignoring unreadable cached index %s", entry);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to touch the cached index %s", entry);
+        }
+        return index;
+    }
+
+    void put(Path archive, Index index) {
+        Path tmp = null;
+        try {
+            final Path entry = entryFor(archive);
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to cache the index of %s", archive);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used entries beyond the given number.
+     *
+     * @param maxEntries the number of entries to keep
+     */
+    void evict(int maxEntries) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final List<Path> entries;
+        try (Stream<Path> files = Files.list(directory)) {
+            entries = files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).collect(Collectors.toList());
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to list the cached indexes in %s", directory);
+            return;
+        }
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        final Map<Path, Long> lastUsed = new HashMap<>();
+        for (Path entry : entries) {
+            try {
+                lastUsed.put(entry, Files.getLastModifiedTime(entry).toMillis());
+            } catch (IOException e) {
+                lastUsed.put(entry, 0L);
+            }
+        }
+        entries.sort(Comparator.comparing(lastUsed::get, Comparator.reverseOrder()));
+        for (Path entry : entries.subList(maxEntries, entries.size())) {
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException e) {
+                LOGGER.debugf(e, "Failed to evict the cached index %s", entry);
+            }
+        }
+    }
+
+    private Path entryFor(Path archive) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final String key = archive.toAbsolutePath() + "|" + Files.size(archive) + "|"
+                + Files.getLastModifiedTime(archive).toMillis();
+        final StringBuilder sb = new StringBuilder(48);
+        for (byte b : digest.digest(key.getBytes(StandardCharsets.UTF_8))) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return directory.resolve(sb.append(SUFFIX).toString());
+    }
+}
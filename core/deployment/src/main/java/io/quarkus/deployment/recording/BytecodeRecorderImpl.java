@@ -51,6 +51,12 @@ import org.jboss.jandex.ArrayType;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.CodeSizeEvaluator;
 import org.wildfly.common.Assert;
 
 import io.quarkus.deployment.ClassOutput;
@@ -100,6 +106,19 @@ public class BytecodeRecorderImpl implements RecorderContext {
     private static final MethodDescriptor COLLECTION_ADD = ofMethod(Collection.class, "add", boolean.class, Object.class);
     private static final MethodDescriptor MAP_PUT = ofMethod(Map.class, "put", Object.class, Object.class, Object.class);
 
+    private static final Logger log = Logger.getLogger(BytecodeRecorderImpl.class);
+
+    /**
+     * The number of recorded invocations and serialized objects written into a single generated method. Once reached,
+     * the remaining instructions continue in a new method, so that the generated methods stay below the size HotSpot
+     * is willing to JIT compile.
+     */
+    private static final int MAX_INSTRUCTIONS_PER_METHOD = 300;
+    /**
+     * HotSpot does not compile methods with more bytecode than this (see {@code -XX:-DontCompileHugeMethods}).
+     */
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
     private final boolean staticInit;
     private final ClassLoader classLoader;
     private final MethodRecorder methodRecorder = new MethodRecorder();
@@ -112,6 +131,13 @@ public class BytecodeRecorderImpl implements RecorderContext {
 
     private final List<ObjectLoader> loaders = new ArrayList<>();
     private final IdentityHashMap<Object, ResultHandle> loadedObjects = new IdentityHashMap<>();
+    /**
+     * Objects which may be used by more than one of the generated methods are stored in an array passed to all of
+     * them, this maps the object to its index.
+     */
+    private final IdentityHashMap<Object, Integer> sharedObjects = new IdentityHashMap<>();
+    private int sharedCount;
+    private int instructionCount;
 
     public BytecodeRecorderImpl(ClassLoader classLoader, boolean staticInit, String className) {
         this.classLoader = classLoader;
@@ -268,26 +294,52 @@ public class BytecodeRecorderImpl implements RecorderContext {
     }
 
     public void writeBytecode(ClassOutput classOutput) {
-        ClassCreator file = ClassCreator.builder().classOutput(ClassOutput.gizmoAdaptor(classOutput, true)).className(className)
-                .superClass(Object.class).interfaces(StartupTask.class).build();
-        MethodCreator method = file.getMethodCreator("deploy", void.class, StartupContext.class);
-        //now create instances of all the classes we invoke on and store them in variables as well
-        Map<Class, ResultHandle> classInstanceVariables = new HashMap<>();
-        Map<Object, ResultHandle> returnValueResults = new IdentityHashMap<>();
-        for (BytecodeInstruction set : this.methodRecorder.storedMethodCalls) {
-            if (set instanceof StoredMethodCall) {
-                StoredMethodCall call = (StoredMethodCall) set;
-                if (classInstanceVariables.containsKey(call.theClass)) {
-                    continue;
-                }
-                ResultHandle instance = method.newInstance(MethodDescriptor.ofConstructor(call.theClass));
-                classInstanceVariables.put(call.theClass, instance);
+        final io.quarkus.gizmo.ClassOutput gizmoOutput = ClassOutput.gizmoAdaptor(classOutput, true);
+        ClassCreator file = ClassCreator.builder().classOutput(new io.quarkus.gizmo.ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                logMethodSizes(name, data);
+                gizmoOutput.write(name, data);
             }
-        }
-        //now we invoke the actual method call
+        }).className(className).superClass(Object.class).interfaces(StartupTask.class).build();
+        //the recorded instructions are split into several methods, each of them is passed the startup context
+        //and the array holding the objects shared between them
+        List<String> methodNames = new ArrayList<>();
+        MethodCreator method = null;
+        Map<Class<?>, ResultHandle> classInstanceVariables = null;
+        Map<Object, ResultHandle> returnValueResults = null;
+        Map<Class<?>, Integer> classInstanceSlots = new HashMap<>();
         for (BytecodeInstruction set : methodRecorder.storedMethodCalls) {
+            if (method == null || instructionCount >= MAX_INSTRUCTIONS_PER_METHOD) {
+                if (method != null) {
+                    method.returnValue(null);
+                }
+                String methodName = "deploy_" + methodNames.size();
+                methodNames.add(methodName);
+                method = file.getMethodCreator(methodName, void.class, StartupContext.class, Object[].class);
+                classInstanceVariables = new HashMap<>();
+                returnValueResults = new IdentityHashMap<>();
+                //handles are only valid in the method that created them
+                loadedObjects.clear();
+                instructionCount = 0;
+            }
+            instructionCount++;
             if (set instanceof StoredMethodCall) {
                 StoredMethodCall call = (StoredMethodCall) set;
+                ResultHandle instance = classInstanceVariables.get(call.theClass);
+                if (instance == null) {
+                    //create a single instance of all the classes we invoke on
+                    Integer slot = classInstanceSlots.get(call.theClass);
+                    if (slot == null) {
+                        slot = sharedCount++;
+                        classInstanceSlots.put(call.theClass, slot);
+                        instance = method.newInstance(MethodDescriptor.ofConstructor(call.theClass));
+                        method.writeArrayValue(method.getMethodParam(1), slot, instance);
+                    } else {
+                        instance = method.checkCast(method.readArrayValue(method.getMethodParam(1), slot), call.theClass);
+                    }
+                    classInstanceVariables.put(call.theClass, instance);
+                }
                 ResultHandle[] params = new ResultHandle[call.parameters.length];
 
                 for (int i = 0; i < call.parameters.length; ++i) {
@@ -300,7 +352,7 @@ public class BytecodeRecorderImpl implements RecorderContext {
                 }
                 ResultHandle callResult = method.invokeVirtualMethod(ofMethod(call.method.getDeclaringClass(),
                         call.method.getName(), call.method.getReturnType(), call.method.getParameterTypes()),
-                        classInstanceVariables.get(call.theClass), params);
+                        instance, params);
 
                 if (call.method.getReturnType() != void.class) {
                     if (call.returnedProxy != null) {
@@ -320,11 +372,53 @@ public class BytecodeRecorderImpl implements RecorderContext {
                 throw new RuntimeException("unkown type " + set);
             }
         }
+        if (method != null) {
+            method.returnValue(null);
+        }
 
-        method.returnValue(null);
+        MethodCreator deploy = file.getMethodCreator("deploy", void.class, StartupContext.class);
+        ResultHandle shared = deploy.newArray(Object.class, deploy.load(sharedCount));
+        for (String methodName : methodNames) {
+            deploy.invokeVirtualMethod(ofMethod(className, methodName, void.class, StartupContext.class, Object[].class),
+                    deploy.getThis(), deploy.getMethodParam(0), shared);
+        }
+        deploy.returnValue(null);
         file.close();
     }
 
+    private static void logMethodSizes(String className, byte[] data) {
+        new ClassReader(data).accept(new ClassVisitor(Opcodes.ASM6) {
+            @Override
+            public MethodVisitor visitMethod(int access, String methodName, String descriptor, String signature,
+                    String[] exceptions) {
+                return new CodeSizeEvaluator(Opcodes.ASM6, null) {
+
+                    private boolean hasCode;
+
+                    @Override
+                    public void visitCode() {
+                        hasCode = true;
+                    }
+
+                    @Override
+                    public void visitEnd() {
+                        if (!hasCode) {
+                            return;
+                        }
+                        // the sizes only differ by the instructions with a short and a wide form
+                        int codeLength = getMinSize();
+                        if (codeLength > HUGE_METHOD_LIMIT) {
+                            log.warnf("Generated method %s.%s has %d bytes of bytecode and will not be JIT compiled",
+                                    className, methodName, codeLength);
+                        } else {
+                            log.debugf("Generated method %s.%s has %d bytes of bytecode", className, methodName, codeLength);
+                        }
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    }
+
     private ResultHandle loadObjectInstance(MethodCreator method, Object param, Map<Object, ResultHandle> returnValueResults,
             Class<?> expectedType) {
 
@@ -332,6 +426,16 @@ public class BytecodeRecorderImpl implements RecorderContext {
         if (existing != null) {
             return existing;
         }
+        if (param != null) {
+            Integer slot = sharedObjects.get(param);
+            if (slot != null) {
+                //created by a previous method
+                existing = method.readArrayValue(method.getMethodParam(1), slot);
+                returnValueResults.put(param, existing);
+                return existing;
+            }
+        }
+        instructionCount++;
         ResultHandle out;
         if (param == null) {
             out = method.loadNull();
@@ -635,9 +739,23 @@ public class BytecodeRecorderImpl implements RecorderContext {
             }
         }
         returnValueResults.put(param, out);
+        if (isShareable(param, expectedType)) {
+            int slot = sharedCount++;
+            sharedObjects.put(param, slot);
+            method.writeArrayValue(method.getMethodParam(1), slot, out);
+        }
         return out;
     }
 
+    /**
+     * Values which are cheap to load again, or may be loaded as a primitive, are not shared between methods.
+     */
+    private static boolean isShareable(Object param, Class<?> expectedType) {
+        return param != null && !expectedType.isPrimitive() && !(param instanceof String) && !(param instanceof Number)
+                && !(param instanceof Boolean) && !(param instanceof Character) && !(param instanceof Enum)
+                && !(param instanceof ReturnedProxy);
+    }
+
     private boolean findLoaded(final BytecodeCreator body, final Object param) {
         if (loadedObjects.containsKey(param)) {
             return true;
@@ -63,6 +63,10 @@ class MainClassBuildStep {
     private static final String STARTUP_CONTEXT = "STARTUP_CONTEXT";
     private static final String JAVA_LIBRARY_PATH = "java.library.path";
     private static final String JAVAX_NET_SSL_TRUST_STORE = "javax.net.ssl.trustStore";
+    private static final String STARTUP_TASK_EVENT = "io.quarkus.runner.StartupTaskEvent";
+
+    private static final MethodDescriptor RUN_STARTUP_TASK = ofMethod(Timing.class, "runStartupTask", void.class,
+            StartupTask.class, StartupContext.class, String.class, boolean.class);
 
     private static final AtomicInteger COUNT = new AtomicInteger();
 
@@ -117,8 +121,8 @@ class MainClassBuildStep {
                 recorder.writeBytecode(classOutput.getClassOutput());
 
                 ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
-                tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                        startupContext);
+                tryBlock.invokeStaticMethod(RUN_STARTUP_TASK, dup, startupContext, tryBlock.load(recorder.getClassName()),
+                        tryBlock.load(true));
             }
         }
         tryBlock.returnValue(null);
@@ -196,8 +200,8 @@ class MainClassBuildStep {
                 }
                 recorder.writeBytecode(classOutput.getClassOutput());
                 ResultHandle dup = tryBlock.newInstance(ofConstructor(recorder.getClassName()));
-                tryBlock.invokeInterfaceMethod(ofMethod(StartupTask.class, "deploy", void.class, StartupContext.class), dup,
-                        startupContext);
+                tryBlock.invokeStaticMethod(RUN_STARTUP_TASK, dup, startupContext, tryBlock.load(recorder.getClassName()),
+                        tryBlock.load(false));
             }
         }
 
@@ -243,7 +247,31 @@ class MainClassBuildStep {
         mv.returnValue(null);
 
         file.close();
+
+        generateStartupTaskEvent(classOutput);
         return new MainClassBuildItem(MAIN_CLASS);
     }
 
+    /**
+     * Generates the JFR event emitted by {@link Timing#runStartupTask} for each startup task. It is only loaded if
+     * JFR is available.
+     */
+    private static void generateStartupTaskEvent(ClassOutputBuildItem classOutput) {
+        ClassCreator file = new ClassCreator(ClassOutput.gizmoAdaptor(classOutput.getClassOutput(), true),
+                STARTUP_TASK_EVENT, null, "jdk.jfr.Event", Timing.StartupTaskEvent.class.getName());
+        file.addAnnotation("jdk.jfr.Name").addValue("value", "io.quarkus.StartupTask");
+        file.addAnnotation("jdk.jfr.Label").addValue("value", "Startup Task");
+
+        FieldCreator task = file.getFieldCreator("task", String.class);
+        task.addAnnotation("jdk.jfr.Label").addValue("value", "Task");
+        FieldCreator staticInit = file.getFieldCreator("staticInit", boolean.class);
+        staticInit.addAnnotation("jdk.jfr.Label").addValue("value", "Static Init");
+
+        MethodCreator mv = file.getMethodCreator("setTask", void.class, String.class, boolean.class);
+        mv.writeInstanceField(task.getFieldDescriptor(), mv.getThis(), mv.getMethodParam(0));
+        mv.writeInstanceField(staticInit.getFieldDescriptor(), mv.getThis(), mv.getMethodParam(1));
+        mv.returnValue(null);
+        file.close();
+    }
+
 }
@@ -58,11 +58,12 @@ public class ReflectiveHierarchyStep {
     public void build() throws Exception {
         Set<DotName> processedReflectiveHierarchies = new HashSet<>();
         for (ReflectiveHierarchyBuildItem i : hierarchy) {
-            addReflectiveHierarchy(i.getType(), processedReflectiveHierarchies);
+            addReflectiveHierarchy(i, i.getType(), processedReflectiveHierarchies);
         }
     }
 
-    private void addReflectiveHierarchy(Type type, Set<DotName> processedReflectiveHierarchies) {
+    private void addReflectiveHierarchy(ReflectiveHierarchyBuildItem root, Type type,
+            Set<DotName> processedReflectiveHierarchies) {
         if (type instanceof VoidType ||
                 type instanceof PrimitiveType ||
                 type instanceof UnresolvedTypeVariable) {
@@ -72,44 +73,45 @@ public class ReflectiveHierarchyStep {
                 return;
             }
 
-            addClassTypeHierarchy(type.name(), processedReflectiveHierarchies);
+            addClassTypeHierarchy(root, type.name(), processedReflectiveHierarchies);
 
             for (ClassInfo subclass : combinedIndexBuildItem.getIndex().getAllKnownSubclasses(type.name())) {
-                addClassTypeHierarchy(subclass.name(), processedReflectiveHierarchies);
+                addClassTypeHierarchy(root, subclass.name(), processedReflectiveHierarchies);
             }
             for (ClassInfo subclass : combinedIndexBuildItem.getIndex().getAllKnownImplementors(type.name())) {
-                addClassTypeHierarchy(subclass.name(), processedReflectiveHierarchies);
+                addClassTypeHierarchy(root, subclass.name(), processedReflectiveHierarchies);
             }
         } else if (type instanceof ArrayType) {
-            addReflectiveHierarchy(type.asArrayType().component(), processedReflectiveHierarchies);
+            addReflectiveHierarchy(root, type.asArrayType().component(), processedReflectiveHierarchies);
         } else if (type instanceof ParameterizedType) {
             ParameterizedType p = (ParameterizedType) type;
-            addReflectiveHierarchy(p.owner(), processedReflectiveHierarchies);
+            addReflectiveHierarchy(root, p.owner(), processedReflectiveHierarchies);
             for (Type arg : p.arguments()) {
-                addReflectiveHierarchy(arg, processedReflectiveHierarchies);
+                addReflectiveHierarchy(root, arg, processedReflectiveHierarchies);
             }
         }
     }
 
-    private void addClassTypeHierarchy(DotName name, Set<DotName> processedReflectiveHierarchies) {
+    private void addClassTypeHierarchy(ReflectiveHierarchyBuildItem root, DotName name,
+            Set<DotName> processedReflectiveHierarchies) {
         if (skipClass(name, processedReflectiveHierarchies)) {
             return;
         }
         processedReflectiveHierarchies.add(name);
-        reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, name.toString()));
+        reflectiveClass.produce(new ReflectiveClassBuildItem(root, true, true, name.toString()));
         ClassInfo info = combinedIndexBuildItem.getIndex().getClassByName(name);
         if (info == null) {
             log.warn("Unable to find annotation info for " + name
                     + ", either it should be added to the Jandex index or it might be incorrectly registered for reflection.");
         } else {
-            addClassTypeHierarchy(info.superName(), processedReflectiveHierarchies);
+            addClassTypeHierarchy(root, info.superName(), processedReflectiveHierarchies);
             for (FieldInfo i : info.fields()) {
-                addReflectiveHierarchy(i.type(), processedReflectiveHierarchies);
+                addReflectiveHierarchy(root, i.type(), processedReflectiveHierarchies);
             }
             for (MethodInfo method : info.methods()) {
                 // we only add the return types of the potential getters
                 if (method.parameters().size() == 0) {
-                    addReflectiveHierarchy(method.returnType(), processedReflectiveHierarchies);
+                    addReflectiveHierarchy(root, method.returnType(), processedReflectiveHierarchies);
                 }
             }
         }
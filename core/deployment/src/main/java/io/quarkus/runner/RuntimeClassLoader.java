@@ -312,6 +312,23 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         }
     }
 
+    /**
+     * Creates a class loader for the same application that starts with the classes, resources and transformers
+     * generated for this one, so that the application can be started again without augmenting it again.
+     * Application classes are loaded again from the application classes path.
+     *
+     * @param parent the parent class loader
+     * @return the new class loader
+     */
+    public RuntimeClassLoader copy(ClassLoader parent) {
+        RuntimeClassLoader copy = new RuntimeClassLoader(parent, applicationClasses, frameworkClassesPath, transformerCache);
+        copy.appClasses.putAll(appClasses);
+        copy.frameworkClasses.addAll(frameworkClasses);
+        copy.resources.putAll(resources);
+        copy.bytecodeTransformers = bytecodeTransformers;
+        return copy;
+    }
+
     public void setTransformers(Map<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> functions) {
         this.bytecodeTransformers = functions;
     }
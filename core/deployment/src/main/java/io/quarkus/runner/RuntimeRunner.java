@@ -52,13 +52,25 @@ public class RuntimeRunner implements Runnable, Closeable {
     private final List<Path> additionalArchives;
     private final List<Consumer<BuildChainBuilder>> chainCustomizers;
     private final LaunchMode launchMode;
+    private final String previousApplicationClassName;
+    private volatile String applicationClassName;
 
     public RuntimeRunner(Builder builder) {
         this.target = builder.target;
         this.additionalArchives = new ArrayList<>(builder.additionalArchives);
         this.chainCustomizers = new ArrayList<>(builder.chainCustomizers);
         this.launchMode = builder.launchMode;
-        if (builder.classOutput == null) {
+        this.previousApplicationClassName = builder.previousRun == null ? null : builder.previousRun.applicationClassName;
+        if (builder.previousRun != null) {
+            RuntimeRunner previous = builder.previousRun;
+            if (!(previous.loader instanceof RuntimeClassLoader) || previous.applicationClassName == null) {
+                throw new IllegalStateException("The previous run did not complete augmentation in its own class loader");
+            }
+            RuntimeClassLoader runtimeClassLoader = ((RuntimeClassLoader) previous.loader).copy(builder.classLoader);
+            this.loader = runtimeClassLoader;
+            this.classOutput = runtimeClassLoader;
+            this.transformerTarget = runtimeClassLoader;
+        } else if (builder.classOutput == null) {
             RuntimeClassLoader runtimeClassLoader = new RuntimeClassLoader(builder.classLoader, target,
                     builder.frameworkClassesPath, builder.transformerCache);
             this.loader = runtimeClassLoader;
@@ -82,6 +94,10 @@ public class RuntimeRunner implements Runnable, Closeable {
     public void run() {
         Thread.currentThread().setContextClassLoader(loader);
         try {
+            if (previousApplicationClassName != null) {
+                start(previousApplicationClassName);
+                return;
+            }
             QuarkusAugmentor.Builder builder = QuarkusAugmentor.builder();
             builder.setRoot(target);
             builder.setClassLoader(loader);
@@ -108,26 +124,7 @@ public class RuntimeRunner implements Runnable, Closeable {
                 transformerTarget.setTransformers(functions);
             }
 
-            final Application application;
-            Class<? extends Application> appClass = loader
-                    .loadClass(result.consume(ApplicationClassNameBuildItem.class).getClassName())
-                    .asSubclass(Application.class);
-            ClassLoader old = Thread.currentThread().getContextClassLoader();
-            try {
-                Thread.currentThread().setContextClassLoader(loader);
-                application = appClass.newInstance();
-                application.start(null);
-            } finally {
-                Thread.currentThread().setContextClassLoader(old);
-            }
-
-            closeTask = new Closeable() {
-                @Override
-                public void close() {
-                    application.stop();
-                }
-            };
-
+            start(result.consume(ApplicationClassNameBuildItem.class).getClassName());
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
@@ -135,6 +132,29 @@ public class RuntimeRunner implements Runnable, Closeable {
         }
     }
 
+    private void start(String className) throws Exception {
+        final Application application;
+        Class<? extends Application> appClass = loader
+                .loadClass(className)
+                .asSubclass(Application.class);
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(loader);
+            application = appClass.newInstance();
+            application.start(null);
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+        }
+        applicationClassName = className;
+
+        closeTask = new Closeable() {
+            @Override
+            public void close() {
+                application.stop();
+            }
+        };
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -149,6 +169,7 @@ public class RuntimeRunner implements Runnable, Closeable {
         private final List<Consumer<BuildChainBuilder>> chainCustomizers = new ArrayList<>();
         private ClassOutput classOutput;
         private TransformerTarget transformerTarget;
+        private RuntimeRunner previousRun;
 
         public Builder setClassLoader(ClassLoader classLoader) {
             this.classLoader = classLoader;
@@ -205,6 +226,19 @@ public class RuntimeRunner implements Runnable, Closeable {
             return this;
         }
 
+        /**
+         * Reuses the classes, resources and bytecode transformers generated by a previous run instead of
+         * running the build chain again. This is only correct if the application classes changed in ways that
+         * the build steps cannot observe, such as in method bodies.
+         *
+         * @param previousRun a run that augmented the application in its own class loader
+         * @return this builder
+         */
+        public Builder setPreviousRun(RuntimeRunner previousRun) {
+            this.previousRun = previousRun;
+            return this;
+        }
+
         public RuntimeRunner build() {
             return new RuntimeRunner(this);
         }
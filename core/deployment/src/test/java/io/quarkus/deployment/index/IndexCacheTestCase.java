@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.deployment.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndexCacheTestCase {
+
+    private Path workDir;
+    private Path cacheDir;
+    private IndexCache cache;
+    private Index index;
+
+    @Before
+    public void setup() throws IOException {
+        workDir = Files.createTempDirectory("index-cache");
+        cacheDir = workDir.resolve("cache");
+        cache = new IndexCache(cacheDir);
+        Indexer indexer = new Indexer();
+        try (InputStream in = IndexCacheTestCase.class.getResourceAsStream("IndexCacheTestCase.class")) {
+            indexer.index(in);
+        }
+        index = indexer.complete();
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testHit() throws IOException {
+        Path archive = archive("a.jar", "a");
+        assertNull(cache.get(archive));
+        cache.put(archive, index);
+        Index cached = cache.get(archive);
+        assertNotNull(cached);
+        assertNotNull(cached.getClassByName(DotName.createSimple(IndexCacheTestCase.class.getName())));
+    }
+
+    @Test
+    public void testMissAfterModification() throws IOException {
+        Path archive = archive("a.jar", "a");
+        FileTime lastModified = Files.getLastModifiedTime(archive);
+        cache.put(archive, index);
+
+        Files.setLastModifiedTime(archive, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        assertNull(cache.get(archive));
+
+        Files.write(archive, "ab".getBytes());
+        Files.setLastModifiedTime(archive, lastModified);
+        assertNull(cache.get(archive));
+    }
+
+    @Test
+    public void testCorruptEntry() throws IOException {
+        Path archive = archive("a.jar", "a");
+        cache.put(archive, index);
+        for (Path entry : entries()) {
+            Files.write(entry, "not an index".getBytes());
+        }
+        assertNull(cache.get(archive));
+
+        cache.put(archive, index);
+        assertNotNull(cache.get(archive));
+    }
+
+    @Test
+    public void testEvict() throws IOException {
+        Path first = archive("a.jar", "a");
+        Path second = archive("b.jar", "b");
+        Path third = archive("c.jar", "c");
+        cache.put(first, index);
+        cache.put(second, index);
+        cache.put(third, index);
+        long now = System.currentTimeMillis();
+        List<Path> entries = entries();
+        for (int i = 0; i < entries.size(); i++) {
+            Files.setLastModifiedTime(entries.get(i), FileTime.fromMillis(now - 10_000 * (i + 1)));
+        }
+        // used entries are the most recent ones
+        assertNotNull(cache.get(first));
+
+        cache.evict(2);
+        assertEquals(2, entries().size());
+        assertNotNull(cache.get(first));
+    }
+
+    private Path archive(String name, String content) throws IOException {
+        return Files.write(workDir.resolve(name), content.getBytes());
+    }
+
+    private List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(p -> p.toString().endsWith(".idx")).sorted().collect(Collectors.toList());
+        }
+    }
+}
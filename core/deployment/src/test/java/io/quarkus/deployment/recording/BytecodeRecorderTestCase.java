@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.Assert;
@@ -110,6 +111,20 @@ public class BytecodeRecorderTestCase {
         }, new TestJavaBean(null, 2));
     }
 
+    @Test
+    public void testLargeRecording() throws Exception {
+        // more instructions than fit into a single generated method
+        List<Integer> shared = new ArrayList<>(Arrays.asList(4, 5, 6));
+        Object[] expected = new Object[1000];
+        Arrays.fill(expected, shared);
+        runTest(recorder -> {
+            TestTemplate template = recorder.getRecordingProxy(TestTemplate.class);
+            for (int i = 0; i < expected.length; ++i) {
+                template.list(shared);
+            }
+        }, expected);
+    }
+
     void runTest(Consumer<BytecodeRecorderImpl> generator, Object... expected) throws Exception {
         TestTemplate.RESULT.clear();
         TestClassLoader tcl = new TestClassLoader(getClass().getClassLoader());
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.dev;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+
+/**
+ * Remembers the structure of the application classes, that is everything but the method bodies and the debug
+ * information. This is all the build steps can see through the index, so as long as the structure of the
+ * changed classes is the same the result of the previous augmentation can be reused.
+ */
+final class ClassStructures {
+
+    private final Map<String, byte[]> digests = new ConcurrentHashMap<>();
+
+    void recordAll(Path classesDir) throws IOException {
+        try (Stream<Path> classes = Files.walk(classesDir)) {
+            classes.parallel()
+                    .filter(p -> p.toString().endsWith(".class"))
+                    .forEach(p -> {
+                        final String name = classesDir.relativize(p).toString();
+                        digests.put(name.substring(0, name.length() - 6).replace('/', '.'),
+                                digest(CopyUtils.readFileContentNoIOExceptions(p)));
+                    });
+        }
+    }
+
+    /**
+     * Records the structure of the changed classes.
+     *
+     * @param changedClasses the bytecode of the changed classes by class name
+     * @return true if all the classes existed before and only their method bodies or debug information changed
+     */
+    boolean update(Map<String, byte[]> changedClasses) {
+        boolean same = true;
+        for (Map.Entry<String, byte[]> entry : changedClasses.entrySet()) {
+            final byte[] previous = digests.put(entry.getKey(), digest(entry.getValue()));
+            if (previous == null || !Arrays.equals(previous, digests.get(entry.getKey()))) {
+                same = false;
+            }
+        }
+        return same;
+    }
+
+    private static byte[] digest(byte[] classBytes) {
+        final ClassWriter writer = new ClassWriter(0);
+        new ClassReader(classBytes).accept(writer, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(writer.toByteArray());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -79,7 +79,7 @@ public class DevModeMain {
         }
         //TODO: we can't handle an exception on startup with hot replacement, as Undertow might not have started
 
-        doStart();
+        doStart(null);
         Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
             @Override
             public void run() {
@@ -98,12 +98,19 @@ public class DevModeMain {
                             e.printStackTrace();
                         }
                     }
+                    if (runtimeUpdatesProcessor != null) {
+                        try {
+                            runtimeUpdatesProcessor.close();
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    }
                 }
             }
         }, "Quarkus Shutdown Thread"));
     }
 
-    private static synchronized void doStart() {
+    private static synchronized void doStart(RuntimeRunner previousRun) {
         try {
             runtimeCl = new URLClassLoader(new URL[] { classesRoot.toURL() }, ClassLoader.getSystemClassLoader());
             currentAppClassLoader = runtimeCl;
@@ -117,6 +124,7 @@ public class DevModeMain {
                         .setTarget(classesRoot.toPath())
                         .setFrameworkClassesPath(wiringDir.toPath())
                         .setTransformerCache(cacheDir.toPath())
+                        .setPreviousRun(previousRun)
                         .build();
                 runner.run();
                 closeable = runner;
@@ -131,6 +139,16 @@ public class DevModeMain {
     }
 
     public static synchronized void restartApp() {
+        restartApp(false);
+    }
+
+    /**
+     * @param reuseAugmentation whether to start the application with the classes generated by the previous
+     *        augmentation, which is only correct if the application structure did not change
+     */
+    public static synchronized void restartApp(boolean reuseAugmentation) {
+        final RuntimeRunner previousRun = reuseAugmentation && closeable instanceof RuntimeRunner ? (RuntimeRunner) closeable
+                : null;
         if (closeable != null) {
             ClassLoader old = Thread.currentThread().getContextClassLoader();
             Thread.currentThread().setContextClassLoader(runtimeCl);
@@ -145,7 +163,7 @@ public class DevModeMain {
         SmallRyeConfigProviderResolver.instance().releaseConfig(SmallRyeConfigProviderResolver.instance().getConfig());
         closeable = null;
         Timing.restart();
-        doStart();
+        doStart(previousRun);
     }
 
     public static ClassLoader getCurrentAppClassLoader() {
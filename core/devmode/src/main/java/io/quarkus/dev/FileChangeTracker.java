@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps track of the files created or modified under a directory tree, so that a scan only has to look at
+ * the files that changed since the previous one.
+ * <p>
+ * Events are collected by a background thread from a {@link WatchService}. If events were lost, all the
+ * files of the tree are reported as changed by the next {@link #drainChanges()}.
+ */
+final class FileChangeTracker implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeTracker.class);
+
+    private static final WatchEvent.Modifier[] MODIFIERS = sensitivityModifiers();
+
+    private final Path root;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+    private final Set<Path> changed = ConcurrentHashMap.newKeySet();
+    private volatile boolean overflow;
+
+    private FileChangeTracker(Path root, WatchService watchService) {
+        this.root = root;
+        this.watchService = watchService;
+    }
+
+    /**
+     * @param root the directory to watch
+     * @return the tracker or {@code null} if the directory cannot be watched
+     */
+    static FileChangeTracker start(Path root) {
+        if (root == null || !Files.isDirectory(root)) {
+            return null;
+        }
+        try {
+            final FileChangeTracker tracker = new FileChangeTracker(root, root.getFileSystem().newWatchService());
+            tracker.registerTree(root, false);
+            final Thread thread = new Thread(tracker::processEvents, "Quarkus dev mode file watcher " + root);
+            thread.setDaemon(true);
+            thread.start();
+            return tracker;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debugf(e, "Unable to watch %s for changes, falling back to scanning", root);
+            return null;
+        }
+    }
+
+    /**
+     * @return the regular files created or modified since the previous invocation
+     */
+    Set<Path> drainChanges() throws IOException {
+        final Set<Path> result = new HashSet<>();
+        if (overflow) {
+            overflow = false;
+            try (Stream<Path> files = Files.walk(root)) {
+                result.addAll(files.filter(Files::isRegularFile).collect(Collectors.toList()));
+            }
+        }
+        for (Path path : changed) {
+            changed.remove(path);
+            if (Files.isRegularFile(path)) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reports the given files as changed again by the next {@link #drainChanges()}, e.g. because they could not
+     * be processed.
+     */
+    void requeue(Collection<Path> paths) {
+        changed.addAll(paths);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void processEvents() {
+        for (;;) {
+            final WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            final Path dir = keys.get(key);
+            if (dir != null) {
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        overflow = true;
+                        continue;
+                    }
+                    final Path path = dir.resolve((Path) event.context());
+                    if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                        try {
+                            // files may have been written before the directory was registered
+                            registerTree(path, true);
+                        } catch (IOException e) {
+                            overflow = true;
+                        }
+                    } else {
+                        changed.add(path);
+                    }
+                }
+            }
+            if (!key.reset()) {
+                keys.remove(key);
+            }
+        }
+    }
+
+    private void registerTree(Path start, boolean reportFiles) throws IOException {
+        try (Stream<Path> paths = Files.walk(start)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path)) {
+                    keys.put(path.register(watchService, new WatchEvent.Kind<?>[] { ENTRY_CREATE, ENTRY_MODIFY }, MODIFIERS),
+                            path);
+                } else if (reportFiles) {
+                    changed.add(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * The polling watch service used on some platforms only checks for changes every ten seconds unless
+     * asked to be more sensitive, which is too slow for dev mode.
+     */
+    private static WatchEvent.Modifier[] sensitivityModifiers() {
+        try {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            final WatchEvent.Modifier high = (WatchEvent.Modifier) Enum.valueOf(
+                    (Class) Class.forName("com.sun.nio.file.SensitivityWatchEventModifier"), "HIGH");
+            return new WatchEvent.Modifier[] { high };
+        } catch (ClassNotFoundException | IllegalArgumentException e) {
+            return new WatchEvent.Modifier[0];
+        }
+    }
+}
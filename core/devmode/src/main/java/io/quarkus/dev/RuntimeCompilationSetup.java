@@ -48,7 +48,7 @@ public class RuntimeCompilationSetup {
             }
             RuntimeUpdatesProcessor processor = new RuntimeUpdatesProcessor(Paths.get(classesDir),
                     sourcesDir == null ? null : Paths.get(sourcesDir), resourcesDir == null ? null : Paths.get(resourcesDir),
-                    compiler);
+                    compiler, Boolean.getBoolean("quarkus.runner.reuse-augmentation"));
 
             for (HotReplacementSetup service : ServiceLoader.load(HotReplacementSetup.class)) {
                 service.setupHotDeployment(processor);
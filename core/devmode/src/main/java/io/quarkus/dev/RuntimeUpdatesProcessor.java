@@ -18,12 +18,14 @@ package io.quarkus.dev;
 
 import static java.util.stream.Collectors.groupingBy;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -38,7 +40,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.deployment.devmode.HotReplacementContext;
 import io.quarkus.runtime.Timing;
 
-public class RuntimeUpdatesProcessor implements HotReplacementContext {
+public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable {
 
     private final Path classesDir;
     private final Path sourcesDir;
@@ -49,13 +51,40 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private volatile Set<String> configFilePaths = Collections.emptySet();
     private final Map<String, Long> configFileTimestamps = new ConcurrentHashMap<>();
 
+    private final FileChangeTracker sourcesTracker;
+    private final FileChangeTracker classesTracker;
+    private final FileChangeTracker resourcesTracker;
+    /**
+     * The first scan has to look at all the files, to catch changes made while the application was not running.
+     */
+    private boolean scannedOnce;
+    /**
+     * Only set if restarts may reuse the previous augmentation.
+     */
+    private final ClassStructures classStructures;
+    private boolean configFileChanged;
+
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
     public RuntimeUpdatesProcessor(Path classesDir, Path sourcesDir, Path resourcesDir, ClassLoaderCompiler compiler) {
+        this(classesDir, sourcesDir, resourcesDir, compiler, false);
+    }
+
+    /**
+     * @param reuseAugmentation whether to restart the application without augmenting it again if only method bodies
+     *        of existing classes changed
+     */
+    public RuntimeUpdatesProcessor(Path classesDir, Path sourcesDir, Path resourcesDir, ClassLoaderCompiler compiler,
+            boolean reuseAugmentation) {
         this.classesDir = classesDir;
         this.sourcesDir = sourcesDir;
         this.resourcesDir = resourcesDir;
         this.compiler = compiler;
+        // started before the first scan so that no change is missed in between
+        this.sourcesTracker = FileChangeTracker.start(sourcesDir);
+        this.classesTracker = FileChangeTracker.start(classesDir);
+        this.resourcesTracker = FileChangeTracker.start(resourcesDir);
+        this.classStructures = reuseAugmentation ? new ClassStructures() : null;
     }
 
     @Override
@@ -78,21 +107,30 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return DevModeMain.deploymentProblem;
     }
 
-    public void doScan() throws IOException {
+    public synchronized void doScan() throws IOException {
         final long startNanoseconds = System.nanoTime();
         final ConcurrentMap<String, byte[]> changedClasses = scanForChangedClasses();
         if (changedClasses == null)
             return;
 
-        DevModeMain.restartApp();
-        log.infof("Hot replace total time: %ss ", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds));
+        // structures are recorded for every scan, even if the augmentation cannot be reused this time
+        final boolean sameStructure = classStructures != null && classStructures.update(changedClasses);
+        final boolean reuseAugmentation = sameStructure && !changedClasses.isEmpty() && !configFileChanged
+                && DevModeMain.deploymentProblem == null;
+        DevModeMain.restartApp(reuseAugmentation);
+        log.infof("Hot replace total time: %ss%s", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds),
+                reuseAugmentation ? " (augmentation reused)" : "");
     }
 
-    ConcurrentMap<String, byte[]> scanForChangedClasses() throws IOException {
+    synchronized ConcurrentMap<String, byte[]> scanForChangedClasses() throws IOException {
+        final boolean fullScan = !scannedOnce;
+        scannedOnce = true;
         final Set<File> changedSourceFiles;
+        final Set<Path> sourceCandidates = sourcesDir == null ? null : changedFiles(sourcesTracker, fullScan);
 
         if (sourcesDir != null) {
-            try (final Stream<Path> sourcesStream = Files.walk(sourcesDir)) {
+            try (final Stream<Path> sourcesStream = sourceCandidates == null ? Files.walk(sourcesDir)
+                    : sourceCandidates.stream()) {
                 changedSourceFiles = sourcesStream
                         .parallel()
                         .filter(p -> matchingHandledExtension(p).isPresent())
@@ -112,11 +150,27 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
                         .collect(groupingBy(this::getFileExtension, Collectors.toSet())));
             } catch (Exception e) {
                 DevModeMain.deploymentProblem = e;
+                // the drained changes are still pending, the next scan has to compile them again
+                if (sourceCandidates == null) {
+                    scannedOnce = false;
+                } else {
+                    sourcesTracker.requeue(sourceCandidates);
+                }
                 return null;
             }
         }
+        if (fullScan && classStructures != null) {
+            classStructures.recordAll(classesDir);
+        }
+        Set<Path> changedInClassesDir = changedFiles(classesTracker, fullScan);
+        if (changedInClassesDir != null && !changedSourceFiles.isEmpty()) {
+            // the watcher may not have been notified of the classes that were just compiled yet
+            changedInClassesDir = new HashSet<>(changedInClassesDir);
+            changedInClassesDir.addAll(compiledClassFiles(changedSourceFiles));
+        }
         final ConcurrentMap<String, byte[]> changedClasses;
-        try (final Stream<Path> classesStream = Files.walk(classesDir)) {
+        try (final Stream<Path> classesStream = changedInClassesDir == null ? Files.walk(classesDir)
+                : changedInClassesDir.stream()) {
             changedClasses = classesStream
                     .parallel()
                     .filter(p -> p.toString().endsWith(".class"))
@@ -125,7 +179,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
                             p -> pathToClassName(p),
                             p -> CopyUtils.readFileContentNoIOExceptions(p)));
         }
-        if (changedClasses.isEmpty() && !checkForConfigFileChange()) {
+        final Set<Path> changedConfigCandidates = resourcesDir == null ? changedInClassesDir
+                : changedFiles(resourcesTracker, fullScan);
+        configFileChanged = checkForConfigFileChange(changedConfigCandidates);
+        if (changedClasses.isEmpty() && !configFileChanged) {
             return null;
         }
 
@@ -133,6 +190,39 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return changedClasses;
     }
 
+    /**
+     * @return the files changed in the tracked directory or {@code null} if all the files have to be checked
+     */
+    private static Set<Path> changedFiles(FileChangeTracker tracker, boolean fullScan) throws IOException {
+        if (tracker == null) {
+            return null;
+        }
+        // drained even for a full scan so that the next scan does not report the same files again
+        final Set<Path> changed = tracker.drainChanges();
+        return fullScan ? null : changed;
+    }
+
+    /**
+     * @return the class files in the output directories of the packages of the given sources
+     */
+    private Set<Path> compiledClassFiles(Set<File> sourceFiles) throws IOException {
+        final Set<Path> packageDirs = new HashSet<>();
+        for (File sourceFile : sourceFiles) {
+            final Path packagePath = sourcesDir.relativize(sourceFile.toPath()).getParent();
+            packageDirs.add(packagePath == null ? classesDir : classesDir.resolve(packagePath.toString()));
+        }
+        final Set<Path> classFiles = new HashSet<>();
+        for (Path packageDir : packageDirs) {
+            if (!Files.isDirectory(packageDir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(packageDir)) {
+                files.filter(p -> p.toString().endsWith(".class")).forEach(classFiles::add);
+            }
+        }
+        return classFiles;
+    }
+
     private Optional<String> matchingHandledExtension(Path p) {
         return compiler.allHandledExtensions().stream().filter(e -> p.toString().endsWith(e)).findFirst();
     }
@@ -146,7 +236,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return name.substring(lastIndexOf);
     }
 
-    private boolean checkForConfigFileChange() {
+    private boolean checkForConfigFileChange(Set<Path> candidates) {
         boolean ret = false;
         boolean doCopy = true;
         Path root = resourcesDir;
@@ -156,12 +246,16 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         }
         for (String i : configFilePaths) {
             Path config = root.resolve(i);
+            if (candidates != null && !candidates.contains(config)) {
+                continue;
+            }
             if (Files.exists(config)) {
                 try {
                     long value = Files.getLastModifiedTime(config).toMillis();
                     Long existing = configFileTimestamps.get(i);
                     if (value > existing) {
                         ret = true;
+                        configFileTimestamps.put(i, value);
                         if (doCopy) {
                             Path target = classesDir.resolve(i);
                             byte[] data = CopyUtils.readFileContent(config);
@@ -237,4 +331,12 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return this;
     }
 
+    @Override
+    public void close() throws IOException {
+        for (FileChangeTracker tracker : new FileChangeTracker[] { sourcesTracker, classesTracker, resourcesTracker }) {
+            if (tracker != null) {
+                tracker.close();
+            }
+        }
+    }
 }
@@ -17,6 +17,9 @@
 package io.quarkus.runtime;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 import org.jboss.logging.Logger;
 
@@ -34,6 +37,19 @@ public class Timing {
 
     private static volatile String httpServerInfo = "";
 
+    private static volatile int slowestStartupTasks;
+
+    /**
+     * The JFR event class generated by the build, it cannot be part of the runtime as that has to run on Java 8.
+     */
+    private static final String STARTUP_TASK_EVENT = "io.quarkus.runner.StartupTaskEvent";
+
+    private static final List<StartupTaskTime> startupTaskTimes = new ArrayList<>();
+
+    private static Class<?> startupTaskEventClass;
+
+    private static boolean startupTaskEventResolved;
+
     public static void staticInitStarted() {
         if (bootStartTime < 0) {
             bootStartTime = System.nanoTime();
@@ -56,6 +72,15 @@ public class Timing {
         httpServerInfo = info;
     }
 
+    /**
+     * Set by the logging setup from {@code quarkus.log.slowest-startup-tasks}.
+     *
+     * @param count the number of slowest startup tasks to print once the application started, 0 disables it
+     */
+    public static void setSlowestStartupTasks(int count) {
+        slowestStartupTasks = count;
+    }
+
     /**
      * This method is replaced by substrate
      */
@@ -64,6 +89,71 @@ public class Timing {
 
     public static void restart() {
         bootStartTime = System.nanoTime();
+        synchronized (startupTaskTimes) {
+            startupTaskTimes.clear();
+            // the event class was loaded by the class loader of the previous run
+            startupTaskEventClass = null;
+            startupTaskEventResolved = false;
+        }
+    }
+
+    /**
+     * Runs a generated startup task and records how long it took. If JFR is available, an
+     * {@code io.quarkus.StartupTask} event is committed as well.
+     *
+     * @param task the startup task
+     * @param context the startup context
+     * @param name the name of the task
+     * @param staticInit whether the task is run during static init
+     */
+    public static void runStartupTask(StartupTask task, StartupContext context, String name, boolean staticInit) {
+        final StartupTaskEvent event = newStartupTaskEvent();
+        if (event != null) {
+            event.begin();
+        }
+        final long start = System.nanoTime();
+        try {
+            task.deploy(context);
+        } finally {
+            final long duration = System.nanoTime() - start;
+            synchronized (startupTaskTimes) {
+                startupTaskTimes.add(new StartupTaskTime(name, staticInit, duration));
+            }
+            if (event != null) {
+                event.end();
+                event.setTask(name, staticInit);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * This method is replaced by substrate, JFR is not available in native images
+     */
+    private static StartupTaskEvent newStartupTaskEvent() {
+        Class<?> eventClass;
+        synchronized (startupTaskTimes) {
+            if (!startupTaskEventResolved) {
+                startupTaskEventResolved = true;
+                ClassLoader cl = Thread.currentThread().getContextClassLoader();
+                try {
+                    Class.forName("jdk.jfr.Event", false, Timing.class.getClassLoader());
+                    startupTaskEventClass = Class.forName(STARTUP_TASK_EVENT, true,
+                            cl != null ? cl : Timing.class.getClassLoader());
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // JFR is not available on this JVM
+                }
+            }
+            eventClass = startupTaskEventClass;
+        }
+        if (eventClass == null) {
+            return null;
+        }
+        try {
+            return (StartupTaskEvent) eventClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            return null;
+        }
     }
 
     public static void printStartupTime(String version, String features) {
@@ -73,6 +163,20 @@ public class Timing {
         final BigDecimal secondsRepresentation = convertToBigDecimalSeconds(bootTimeNanoSeconds);
         logger.infof("Quarkus %s started in %ss. %s", version, secondsRepresentation, httpServerInfo);
         logger.infof("Installed features: [%s]", features);
+        final int slowest = slowestStartupTasks;
+        if (slowest > 0) {
+            final List<StartupTaskTime> times;
+            synchronized (startupTaskTimes) {
+                times = new ArrayList<>(startupTaskTimes);
+            }
+            times.sort(Comparator.comparingLong((StartupTaskTime t) -> t.duration).reversed());
+            final StringBuilder sb = new StringBuilder("Slowest startup tasks:");
+            for (StartupTaskTime time : times.subList(0, Math.min(slowest, times.size()))) {
+                sb.append(String.format("%n%10.3f ms  %-11s %s", time.duration / 1_000_000.0,
+                        time.staticInit ? "static-init" : "runtime", time.name));
+            }
+            logger.info(sb);
+        }
     }
 
     public static void printStopTime() {
@@ -89,4 +193,30 @@ public class Timing {
         return secondsRepresentation;
     }
 
+    /**
+     * Implemented by the generated JFR event class.
+     */
+    public interface StartupTaskEvent {
+
+        void begin();
+
+        void end();
+
+        void commit();
+
+        void setTask(String task, boolean staticInit);
+    }
+
+    private static final class StartupTaskTime {
+        final String name;
+        final boolean staticInit;
+        final long duration;
+
+        StartupTaskTime(String name, boolean staticInit, long duration) {
+            this.name = name;
+            this.staticInit = staticInit;
+            this.duration = duration;
+        }
+    }
+
 }
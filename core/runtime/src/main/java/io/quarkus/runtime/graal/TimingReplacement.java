@@ -33,4 +33,9 @@ final class TimingReplacement {
         bootStartTime = System.nanoTime();
     }
 
+    @Substitute
+    private static Timing.StartupTaskEvent newStartupTaskEvent() {
+        return null;
+    }
+
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime.launcher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.CodeSigner;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipFile;
+
+/**
+ * A class loader for the indexed runner jar layout.
+ * <p>
+ * Unlike {@link java.net.URLClassLoader}, which probes every jar of the class path in turn, the jars that
+ * may contain a class or resource are looked up in a {@link JarIndex} computed at build time, so a lookup
+ * usually touches a single jar. Lookups in directories that are not in the index fail without opening
+ * any jar.
+ */
+public final class IndexedClassLoader extends ClassLoader {
+
+    private static final int[] NONE = new int[0];
+
+    private static final Constructor<JarFile> VERSIONED_JAR_FILE;
+    private static final Method IS_MULTI_RELEASE;
+    private static final Object RUNTIME_VERSION;
+    /**
+     * Makes the JDK resolve the entries of a multi-release jar for the running Java version when the URL of a
+     * resource is opened.
+     */
+    private static final String RUNTIME_FRAGMENT = "#runtime";
+
+    static {
+        registerAsParallelCapable();
+
+        Constructor<JarFile> constructor;
+        Method isMultiRelease;
+        Object version;
+        try {
+            final Class<?> versionClass = Class.forName("java.lang.Runtime$Version");
+            version = Runtime.class.getMethod("version").invoke(null);
+            constructor = JarFile.class.getConstructor(File.class, boolean.class, int.class, versionClass);
+            isMultiRelease = JarFile.class.getMethod("isMultiRelease");
+        } catch (ReflectiveOperationException e) {
+            // Java 8 has no multi-release jars
+            constructor = null;
+            isMultiRelease = null;
+            version = null;
+        }
+        VERSIONED_JAR_FILE = constructor;
+        IS_MULTI_RELEASE = isMultiRelease;
+        RUNTIME_VERSION = version;
+    }
+
+    private final JarIndex index;
+    private final IndexedJar[] jars;
+
+    public IndexedClassLoader(ClassLoader parent, Path baseDir, JarIndex index) throws IOException {
+        super(parent);
+        this.index = index;
+        final List<String> paths = index.getJars();
+        this.jars = new IndexedJar[paths.size()];
+        for (int i = 0; i < jars.length; ++i) {
+            jars[i] = new IndexedJar(baseDir.resolve(paths.get(i)));
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        final String resource = name.replace('.', '/') + ".class";
+        for (int i : index.getJars(resource)) {
+            final IndexedJar jar = jars[i];
+            final JarEntry entry = jar.file.getJarEntry(resource);
+            if (entry == null) {
+                continue;
+            }
+            final byte[] bytes;
+            try {
+                bytes = jar.read(entry);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+            definePackageIfNeeded(name, jar);
+            return defineClass(name, bytes, 0, bytes.length, jar.protectionDomain);
+        }
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        if (!name.endsWith("/")) {
+            for (int i : index.getJars(name)) {
+                final IndexedJar jar = jars[i];
+                if (jar.file.getEntry(name) != null) {
+                    return jar.url(name);
+                }
+            }
+        }
+        // the name may be a directory, with or without a trailing slash
+        for (int i : index.getDirectoryJars(name)) {
+            final IndexedJar jar = jars[i];
+            if (jar.file.getEntry(name) != null) {
+                return jar.url(name);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) {
+        final int[] candidates = name.endsWith("/") ? NONE : index.getJars(name);
+        final int[] directoryCandidates = index.getDirectoryJars(name);
+        if (candidates.length == 0 && directoryCandidates.length == 0) {
+            return Collections.emptyEnumeration();
+        }
+        final List<URL> result = new ArrayList<>(candidates.length + directoryCandidates.length);
+        // both are in class path order, merge them to keep it
+        int c = 0;
+        int d = 0;
+        while (c < candidates.length || d < directoryCandidates.length) {
+            final int i;
+            if (d == directoryCandidates.length || (c < candidates.length && candidates[c] <= directoryCandidates[d])) {
+                i = candidates[c++];
+                if (d < directoryCandidates.length && directoryCandidates[d] == i) {
+                    d++;
+                }
+            } else {
+                i = directoryCandidates[d++];
+            }
+            final IndexedJar jar = jars[i];
+            if (jar.file.getEntry(name) != null) {
+                result.add(jar.url(name));
+            }
+        }
+        return Collections.enumeration(result);
+    }
+
+    private void definePackageIfNeeded(String className, IndexedJar jar) {
+        final int i = className.lastIndexOf('.');
+        if (i < 0) {
+            return;
+        }
+        final String packageName = className.substring(0, i);
+        if (getPackage(packageName) != null) {
+            return;
+        }
+        final Manifest manifest = jar.getManifest();
+        try {
+            if (manifest == null) {
+                definePackage(packageName, null, null, null, null, null, null, null);
+            } else {
+                final Attributes attributes = manifest.getMainAttributes();
+                definePackage(packageName,
+                        attributes.getValue(Attributes.Name.SPECIFICATION_TITLE),
+                        attributes.getValue(Attributes.Name.SPECIFICATION_VERSION),
+                        attributes.getValue(Attributes.Name.SPECIFICATION_VENDOR),
+                        attributes.getValue(Attributes.Name.IMPLEMENTATION_TITLE),
+                        attributes.getValue(Attributes.Name.IMPLEMENTATION_VERSION),
+                        attributes.getValue(Attributes.Name.IMPLEMENTATION_VENDOR),
+                        null);
+            }
+        } catch (IllegalArgumentException e) {
+            // defined concurrently by another thread
+        }
+    }
+
+    /**
+     * Opens a jar so that the entries of a multi-release jar are resolved for the running Java version. The
+     * launcher targets Java 8, so the versioned constructor is looked up reflectively.
+     */
+    private static JarFile openJar(File file) throws IOException {
+        if (VERSIONED_JAR_FILE != null) {
+            try {
+                return VERSIONED_JAR_FILE.newInstance(file, Boolean.FALSE, Integer.valueOf(ZipFile.OPEN_READ), RUNTIME_VERSION);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return new JarFile(file, false);
+    }
+
+    private static boolean isMultiRelease(JarFile file) {
+        if (IS_MULTI_RELEASE == null) {
+            return false;
+        }
+        try {
+            return ((Boolean) IS_MULTI_RELEASE.invoke(file)).booleanValue();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class IndexedJar {
+
+        final JarFile file;
+        final String urlPrefix;
+        final String urlSuffix;
+        final ProtectionDomain protectionDomain;
+        private volatile Manifest manifest;
+        private volatile boolean manifestRead;
+
+        IndexedJar(Path path) throws IOException {
+            this.file = openJar(path.toFile());
+            final URL url = path.toUri().toURL();
+            this.urlPrefix = "jar:" + url + "!/";
+            this.urlSuffix = isMultiRelease(file) ? RUNTIME_FRAGMENT : "";
+            this.protectionDomain = new ProtectionDomain(new CodeSource(url, (CodeSigner[]) null), null);
+        }
+
+        byte[] read(JarEntry entry) throws IOException {
+            try (InputStream in = file.getInputStream(entry)) {
+                final long size = entry.getSize();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(size > 0 ? (int) size : 4096);
+                final byte[] buffer = new byte[4096];
+                int r;
+                while ((r = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, r);
+                }
+                return out.toByteArray();
+            }
+        }
+
+        URL url(String name) {
+            try {
+                return new URL(urlPrefix + name + urlSuffix);
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Manifest getManifest() {
+            if (!manifestRead) {
+                try {
+                    manifest = file.getManifest();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                manifestRead = true;
+            }
+            return manifest;
+        }
+    }
+}
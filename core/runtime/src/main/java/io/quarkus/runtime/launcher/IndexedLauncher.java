@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime.launcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * The main class of a runner jar built with the indexed layout.
+ * <p>
+ * This class is copied into the runner jar, whose manifest has no class path. It loads the {@link JarIndex}
+ * of the runner jar and starts the application main class in an {@link IndexedClassLoader}.
+ */
+public final class IndexedLauncher {
+
+    private IndexedLauncher() {
+    }
+
+    public static void main(String[] args) throws Throwable {
+        final Path runnerJar = Paths.get(IndexedLauncher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final String mainClassName;
+        final JarIndex index;
+        try (JarFile jar = new JarFile(runnerJar.toFile(), false)) {
+            mainClassName = jar.getManifest().getMainAttributes().getValue(JarIndex.MAIN_CLASS_ATTRIBUTE);
+            if (mainClassName == null) {
+                throw new IllegalStateException(
+                        "The manifest of " + runnerJar + " does not define " + JarIndex.MAIN_CLASS_ATTRIBUTE);
+            }
+            final ZipEntry entry = jar.getEntry(JarIndex.RESOURCE);
+            if (entry == null) {
+                throw new IllegalStateException(runnerJar + " does not contain " + JarIndex.RESOURCE);
+            }
+            try (InputStream in = jar.getInputStream(entry)) {
+                index = JarIndex.read(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the jar index of " + runnerJar, e);
+        }
+
+        // the launcher itself is loaded by the system class loader, the application must not see it
+        final ClassLoader parent = ClassLoader.getSystemClassLoader().getParent();
+        final IndexedClassLoader classLoader = new IndexedClassLoader(parent, runnerJar.toAbsolutePath().getParent(), index);
+        Thread.currentThread().setContextClassLoader(classLoader);
+        final Method main = classLoader.loadClass(mainClassName).getMethod("main", String[].class);
+        try {
+            main.invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
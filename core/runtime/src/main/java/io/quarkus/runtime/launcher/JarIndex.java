@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.runtime.launcher;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps the directories of an indexed runner jar layout to the jars that contain entries in them.
+ * Directory entries are mapped separately, under their own name with a trailing {@code /}, so that a
+ * directory can be looked up as a resource.
+ * <p>
+ * The index is computed when the runner jar is built and stored in it as {@link #RESOURCE}. The jars are
+ * referenced relative to the directory of the runner jar, in class path order.
+ */
+public final class JarIndex {
+
+    public static final String RESOURCE = "META-INF/quarkus-jar-index";
+
+    /**
+     * The manifest attribute holding the application main class that the launcher delegates to.
+     */
+    public static final String MAIN_CLASS_ATTRIBUTE = "Quarkus-Main-Class";
+
+    private static final int VERSION = 1;
+    private static final String VERSIONS = "META-INF/versions/";
+    private static final int[] NONE = new int[0];
+
+    private final List<String> jars;
+    private final Map<String, int[]> directories;
+
+    private JarIndex(List<String> jars, Map<String, int[]> directories) {
+        this.jars = jars;
+        this.directories = directories;
+    }
+
+    public List<String> getJars() {
+        return jars;
+    }
+
+    /**
+     * @param resource the resource name
+     * @return the positions in {@link #getJars()} of the jars that may contain the resource
+     */
+    public int[] getJars(String resource) {
+        final int[] found = directories.get(directoryOf(resource));
+        return found == null ? NONE : found;
+    }
+
+    /**
+     * @param directory the directory name, with or without a trailing {@code /}
+     * @return the positions in {@link #getJars()} of the jars that have an entry for the directory
+     */
+    public int[] getDirectoryJars(String directory) {
+        final int[] found = directories.get(directory.endsWith("/") ? directory : directory + "/");
+        return found == null ? NONE : found;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(VERSION);
+        data.writeInt(jars.size());
+        for (String jar : jars) {
+            data.writeUTF(jar);
+        }
+        data.writeInt(directories.size());
+        for (Map.Entry<String, int[]> entry : directories.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().length);
+            for (int jar : entry.getValue()) {
+                data.writeInt(jar);
+            }
+        }
+        data.flush();
+    }
+
+    public static JarIndex read(InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(in);
+        final int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported jar index version " + version);
+        }
+        final int jarCount = data.readInt();
+        final List<String> jars = new ArrayList<>(jarCount);
+        for (int i = 0; i < jarCount; ++i) {
+            jars.add(data.readUTF());
+        }
+        final int directoryCount = data.readInt();
+        final Map<String, int[]> directories = new HashMap<>((int) (directoryCount / 0.75f) + 1);
+        for (int i = 0; i < directoryCount; ++i) {
+            final String directory = data.readUTF();
+            final int[] positions = new int[data.readInt()];
+            for (int j = 0; j < positions.length; ++j) {
+                positions[j] = data.readInt();
+            }
+            directories.put(directory, positions);
+        }
+        return new JarIndex(Collections.unmodifiableList(jars), directories);
+    }
+
+    static String directoryOf(String resource) {
+        final int i = resource.lastIndexOf('/');
+        return i < 0 ? "" : resource.substring(0, i);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private final List<String> jars = new ArrayList<>();
+        private final Map<String, List<Integer>> directories = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a jar after the ones already added.
+         *
+         * @param jar the jar path relative to the runner jar directory
+         * @param entries the names of the entries of the jar
+         * @return this builder
+         */
+        public Builder addJar(String jar, Iterable<String> entries) {
+            final Integer position = jars.size();
+            jars.add(jar);
+            for (String entry : entries) {
+                if (entry.endsWith("/")) {
+                    add(entry, position);
+                    continue;
+                }
+                add(directoryOf(entry), position);
+                final String unversioned = unversioned(entry);
+                if (unversioned != null) {
+                    // a multi-release jar may hold a class or resource only for some runtime versions
+                    add(directoryOf(unversioned), position);
+                }
+            }
+            return this;
+        }
+
+        private void add(String directory, Integer position) {
+            final List<Integer> positions = directories.computeIfAbsent(directory, d -> new ArrayList<>(1));
+            if (positions.isEmpty() || !positions.get(positions.size() - 1).equals(position)) {
+                positions.add(position);
+            }
+        }
+
+        /**
+         * @return the name of a {@code META-INF/versions/<n>/} entry without that prefix, or {@code null}
+         */
+        private static String unversioned(String entry) {
+            if (!entry.startsWith(VERSIONS)) {
+                return null;
+            }
+            final int i = entry.indexOf('/', VERSIONS.length());
+            return i < 0 ? null : entry.substring(i + 1);
+        }
+
+        public JarIndex build() {
+            final Map<String, int[]> result = new LinkedHashMap<>(directories.size());
+            for (Map.Entry<String, List<Integer>> entry : directories.entrySet()) {
+                final int[] positions = new int[entry.getValue().size()];
+                for (int i = 0; i < positions.length; ++i) {
+                    positions[i] = entry.getValue().get(i);
+                }
+                result.put(entry.getKey(), positions);
+            }
+            return new JarIndex(Collections.unmodifiableList(new ArrayList<>(jars)), result);
+        }
+    }
+}
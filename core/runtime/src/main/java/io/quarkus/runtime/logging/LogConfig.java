@@ -37,6 +37,12 @@ public final class LogConfig {
     @ConfigItem(defaultValue = "INFO")
     public Level minLevel;
 
+    /**
+     * The number of slowest startup tasks to log once the application started, 0 disables it
+     */
+    @ConfigItem(defaultValue = "0")
+    public int slowestStartupTasks;
+
     /**
      * Console logging config
      */
@@ -21,6 +21,7 @@ import org.jboss.logmanager.handlers.FileHandler;
 
 import com.oracle.svm.core.annotate.RecomputeFieldValue;
 
+import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.annotations.Template;
 
 /**
@@ -35,6 +36,7 @@ public class LoggingSetupTemplate {
     private static volatile boolean initialized;
 
     public void initializeLogging(LogConfig config) {
+        Timing.setSlowestStartupTasks(config.slowestStartupTasks);
         if (initialized || ImageInfo.inImageBuildtimeCode()) {
             // JVM mode, already initialized in static init
             return;
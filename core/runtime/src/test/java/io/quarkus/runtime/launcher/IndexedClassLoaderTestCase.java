@@ -0,0 +1,123 @@
+package io.quarkus.runtime.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.junit.Test;
+
+public class IndexedClassLoaderTestCase {
+
+    @Test
+    public void testMultiReleaseJar() throws Exception {
+        assumeFalse("Multi-release jars need Java 9", System.getProperty("java.specification.version").startsWith("1."));
+        final Path dir = Files.createTempDirectory("indexed-class-loader");
+        final Path jar = dir.resolve("mr.jar");
+        try {
+            final Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().putValue("Multi-Release", "true");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+                write(out, "org/mr/common.txt", "base");
+                write(out, "META-INF/versions/9/org/mr/common.txt", "9");
+                write(out, "META-INF/versions/9/org/mr/only9/only.txt", "only 9");
+            }
+            final JarIndex index = JarIndex.builder()
+                    .addJar("mr.jar", Arrays.asList("META-INF/MANIFEST.MF", "org/mr/common.txt",
+                            "META-INF/versions/9/org/mr/common.txt", "META-INF/versions/9/org/mr/only9/only.txt"))
+                    .build();
+            final IndexedClassLoader loader = new IndexedClassLoader(null, dir, index);
+
+            assertEquals("9", read(loader, "org/mr/common.txt"));
+            assertNotNull(loader.getResource("org/mr/only9/only.txt"));
+            assertEquals("only 9", read(loader, "org/mr/only9/only.txt"));
+        } finally {
+            Files.deleteIfExists(jar);
+            Files.delete(dir);
+        }
+    }
+
+    @Test
+    public void testDirectoryLookup() throws Exception {
+        final Path dir = Files.createTempDirectory("indexed-class-loader");
+        final Path a = dir.resolve("a.jar");
+        final Path b = dir.resolve("b.jar");
+        try {
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(a))) {
+                out.putNextEntry(new JarEntry("org/"));
+                out.putNextEntry(new JarEntry("org/dir/"));
+                write(out, "org/dir/a.txt", "a");
+            }
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(b))) {
+                out.putNextEntry(new JarEntry("org/dir/"));
+                out.putNextEntry(new JarEntry("org/dir/empty/"));
+            }
+            final JarIndex index = JarIndex.builder()
+                    .addJar("a.jar", Arrays.asList("org/", "org/dir/", "org/dir/a.txt"))
+                    .addJar("b.jar", Arrays.asList("org/dir/", "org/dir/empty/"))
+                    .build();
+            final IndexedClassLoader loader = new IndexedClassLoader(null, dir, index);
+
+            assertEquals(a.toUri().toURL(), jarFile(loader.getResource("org/dir/")));
+            assertEquals(Arrays.asList(a.toUri().toURL(), b.toUri().toURL()), jarFiles(loader.getResources("org/dir/")));
+            assertEquals(Arrays.asList(a.toUri().toURL(), b.toUri().toURL()), jarFiles(loader.getResources("org/dir")));
+            assertEquals(b.toUri().toURL(), jarFile(loader.getResource("org/dir/empty")));
+            assertEquals(Arrays.asList(a.toUri().toURL()), jarFiles(loader.getResources("org")));
+            assertNull(loader.getResource("org/unknown/"));
+        } finally {
+            Files.deleteIfExists(a);
+            Files.deleteIfExists(b);
+            Files.delete(dir);
+        }
+    }
+
+    private static URL jarFile(URL url) throws IOException {
+        assertNotNull(url);
+        return ((JarURLConnection) url.openConnection()).getJarFileURL();
+    }
+
+    private static List<URL> jarFiles(Enumeration<URL> urls) throws IOException {
+        final List<URL> result = new ArrayList<>();
+        while (urls.hasMoreElements()) {
+            result.add(jarFile(urls.nextElement()));
+        }
+        return result;
+    }
+
+    private static void write(JarOutputStream out, String name, String content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(content.getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+    }
+
+    private static String read(ClassLoader loader, String name) throws IOException {
+        try (InputStream in = loader.getResourceAsStream(name)) {
+            assertNotNull(name, in);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[256];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
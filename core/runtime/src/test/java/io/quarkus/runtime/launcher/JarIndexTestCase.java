@@ -0,0 +1,53 @@
+package io.quarkus.runtime.launcher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class JarIndexTestCase {
+
+    @Test
+    public void testLookup() throws IOException {
+        final JarIndex built = JarIndex.builder()
+                .addJar("app-runner.jar", Arrays.asList("META-INF/MANIFEST.MF", "org/acme/", "org/acme/Foo.class",
+                        "org/acme/Bar.class", "application.properties"))
+                .addJar("lib/a.jar", Arrays.asList("META-INF/MANIFEST.MF", "org/a/A.class", "org/acme/Split.class"))
+                .addJar("lib/b.jar", Arrays.asList("META-INF/services/org.a.Service", "org/b/B.class"))
+                .build();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        built.write(out);
+        final JarIndex index = JarIndex.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(Arrays.asList("app-runner.jar", "lib/a.jar", "lib/b.jar"), index.getJars());
+        assertArrayEquals(new int[] { 0, 1 }, index.getJars("org/acme/Foo.class"));
+        assertArrayEquals(new int[] { 0, 1 }, index.getJars("org/acme/"));
+        assertArrayEquals(new int[] { 1 }, index.getJars("org/a/A.class"));
+        assertArrayEquals(new int[] { 2 }, index.getJars("META-INF/services/org.a.Service"));
+        assertArrayEquals(new int[] { 0, 1 }, index.getJars("META-INF/MANIFEST.MF"));
+        assertArrayEquals(new int[] { 0 }, index.getJars("application.properties"));
+        assertArrayEquals(new int[0], index.getJars("org/unknown/Foo.class"));
+        assertArrayEquals(new int[] { 0 }, index.getDirectoryJars("org/acme/"));
+        assertArrayEquals(new int[] { 0 }, index.getDirectoryJars("org/acme"));
+        assertArrayEquals(new int[0], index.getDirectoryJars("org/a"));
+    }
+
+    @Test
+    public void testMultiReleaseEntries() throws Exception {
+        final JarIndex index = JarIndex.builder()
+                .addJar("app-runner.jar", Arrays.asList("org/acme/Foo.class"))
+                .addJar("lib/mr.jar", Arrays.asList("META-INF/MANIFEST.MF", "org/mr/Common.class",
+                        "META-INF/versions/9/org/mr/Common.class", "META-INF/versions/11/org/mr/only11/Only.class"))
+                .build();
+
+        assertArrayEquals(new int[] { 1 }, index.getJars("org/mr/Common.class"));
+        assertArrayEquals(new int[] { 1 }, index.getJars("org/mr/only11/Only.class"));
+        assertArrayEquals(new int[] { 1 }, index.getJars("META-INF/versions/11/org/mr/only11/Only.class"));
+    }
+}
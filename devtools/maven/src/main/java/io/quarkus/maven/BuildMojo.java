@@ -125,6 +125,26 @@ public class BuildMojo extends AbstractMojo {
     @Parameter(defaultValue = "false")
     private boolean uberJar;
 
+    /**
+     * Whether to build the runner jar with the indexed layout, which loads classes using
+     * a directory to jar index instead of the manifest class path.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean indexedJar;
+
+    /**
+     * Whether to generate an AppCDS archive and a launch script using it for the runner jar.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean appCds;
+
+    /**
+     * Whether to write the native image registrations made by the build steps, with an estimate
+     * of their size, to the build directory.
+     */
+    @Parameter(defaultValue = "false")
+    private boolean substrateRegistrationReport;
+
     public BuildMojo() {
         MojoLogger.logSupplier = this::getLog;
     }
@@ -136,12 +156,15 @@ public class BuildMojo extends AbstractMojo {
                 .addPhase(new AugmentPhase()
                         .setAppClassesDir(outputDirectory.toPath())
                         .setTransformedClassesDir(transformedClassesDirectory.toPath())
-                        .setWiringClassesDir(wiringClassesDirectory.toPath()))
+                        .setWiringClassesDir(wiringClassesDirectory.toPath())
+                        .setSubstrateRegistrationReport(substrateRegistrationReport))
                 .addPhase(new RunnerJarPhase()
                         .setLibDir(libDir.toPath())
                         .setFinalName(finalName)
                         .setMainClass(mainClass)
-                        .setUberJar(uberJar))
+                        .setUberJar(uberJar)
+                        .setAppCds(appCds)
+                        .setIndexedJar(indexedJar))
                 .setWorkDir(buildDir.toPath())
                 .build()) {
 
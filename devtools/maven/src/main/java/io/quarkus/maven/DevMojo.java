@@ -114,6 +114,13 @@ public class DevMojo extends AbstractMojo {
     @Parameter(defaultValue = "${preventnoverify}")
     private boolean preventnoverify = false;
 
+    /**
+     * Whether a hot reload that only changed method bodies of existing classes restarts the application
+     * with the classes generated by the previous augmentation instead of running the build again.
+     */
+    @Parameter(defaultValue = "${reuseAugmentation}")
+    private boolean reuseAugmentation = false;
+
     @Override
     public void execute() throws MojoFailureException {
 
@@ -267,6 +274,9 @@ public class DevMojo extends AbstractMojo {
             if (resources != null) {
                 args.add("-Dquarkus.runner.resources=" + new File(resources).getAbsolutePath());
             }
+            if (reuseAugmentation) {
+                args.add("-Dquarkus.runner.reuse-augmentation=true");
+            }
             args.add("-jar");
             args.add(tempFile.getAbsolutePath());
             args.add(outputDirectory.getAbsolutePath());
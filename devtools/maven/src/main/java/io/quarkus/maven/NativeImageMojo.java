@@ -118,6 +118,9 @@ public class NativeImageMojo extends AbstractMojo {
     @Parameter(defaultValue = "${native-image.disable-reports}")
     private boolean disableReports;
 
+    @Parameter(defaultValue = "false")
+    private boolean reportUnreachedRegistrations;
+
     @Parameter
     private List<String> additionalBuildArgs;
 
@@ -157,7 +160,8 @@ public class NativeImageMojo extends AbstractMojo {
                         .setFullStackTraces(fullStackTraces)
                         .setGraalvmHome(graalvmHome)
                         .setNativeImageXmx(nativeImageXmx)
-                        .setReportErrorsAtRuntime(reportErrorsAtRuntime))
+                        .setReportErrorsAtRuntime(reportErrorsAtRuntime)
+                        .setReportUnreachedRegistrations(reportUnreachedRegistrations))
 
                 .build()) {
 
@@ -0,0 +1,22 @@
+package io.quarkus.arc.deployment;
+
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+
+import io.quarkus.arc.runtime.ArcDeploymentTemplate;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ExecutorBuildItem;
+
+public class EventExecutorBuildStep {
+
+    /**
+     * Asynchronous observers are notified on the managed executor so that they do not compete with parallel streams for the
+     * common pool. The pool is configured via the {@code executor.*} runtime properties.
+     */
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void setupExecutor(ArcDeploymentTemplate template, BeanContainerBuildItem beanContainer, ExecutorBuildItem executor) {
+        template.setupExecutor(executor.getExecutorProxy());
+    }
+
+}
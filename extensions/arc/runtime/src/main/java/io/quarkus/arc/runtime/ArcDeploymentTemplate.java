@@ -20,6 +20,7 @@ import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
@@ -101,6 +102,10 @@ public class ArcDeploymentTemplate {
         return beanContainer;
     }
 
+    public void setupExecutor(Executor executor) {
+        Arc.container().setExecutor(executor);
+    }
+
     public void handleLifecycleEvents(ShutdownContext context, BeanContainer beanContainer) {
         LifecycleEventRunner instance = beanContainer.instance(LifecycleEventRunner.class);
         instance.fireStartupEvent();
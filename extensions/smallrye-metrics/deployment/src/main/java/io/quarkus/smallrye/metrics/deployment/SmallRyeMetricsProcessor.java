@@ -137,6 +137,7 @@ public class SmallRyeMetricsProcessor {
     void register(SmallRyeMetricsTemplate metrics, ShutdownContextBuildItem shutdown) {
         metrics.registerBaseMetrics(shutdown);
         metrics.registerVendorMetrics(shutdown);
+        metrics.registerHttpWorkerMetrics(shutdown);
     }
 
 }
@@ -22,15 +22,18 @@ import java.lang.management.MemoryMXBean;
 import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.ToIntFunction;
 
 import org.eclipse.microprofile.metrics.Metadata;
 import org.eclipse.microprofile.metrics.MetricRegistry;
 import org.eclipse.microprofile.metrics.MetricType;
 import org.jboss.logging.Logger;
+import org.xnio.management.XnioWorkerMXBean;
 
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Template;
+import io.quarkus.undertow.runtime.UndertowDeploymentTemplate;
 import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.app.CounterImpl;
 
@@ -41,6 +44,10 @@ public class SmallRyeMetricsTemplate {
     private static final String MEMORY_HEAP_USAGE = "memory.heap.usage";
     private static final String MEMORY_NON_HEAP_USAGE = "memory.nonHeap.usage";
     private static final String THREAD_COUNT = "thread.count";
+    private static final String HTTP_WORKER_POOL_SIZE = "http.worker.pool.size";
+    private static final String HTTP_WORKER_POOL_MAX = "http.worker.pool.max";
+    private static final String HTTP_WORKER_BUSY_THREADS = "http.worker.busyThreads";
+    private static final String HTTP_WORKER_QUEUE_SIZE = "http.worker.queue.size";
 
     /*
      * public <E extends Member & AnnotatedElement> void registerCounted(Class<?> topClass, E element) {
@@ -150,6 +157,45 @@ public class SmallRyeMetricsTemplate {
 
     }
 
+    /**
+     * Registers gauges for the HTTP worker thread pool, so that a saturated pool shows up as a growing queue
+     * while all the threads are busy.
+     */
+    public void registerHttpWorkerMetrics(ShutdownContext shutdown) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+
+        Metadata meta = new Metadata(HTTP_WORKER_POOL_SIZE, MetricType.GAUGE);
+        meta.setDescription("The number of threads in the HTTP worker pool");
+        registry.register(meta, new LambdaGauge(() -> httpWorkerStatistic(XnioWorkerMXBean::getWorkerPoolSize)));
+
+        meta = new Metadata(HTTP_WORKER_POOL_MAX, MetricType.GAUGE);
+        meta.setDescription("The maximum number of threads in the HTTP worker pool");
+        registry.register(meta, new LambdaGauge(() -> httpWorkerStatistic(XnioWorkerMXBean::getMaxWorkerPoolSize)));
+
+        meta = new Metadata(HTTP_WORKER_BUSY_THREADS, MetricType.GAUGE);
+        meta.setDescription("The number of HTTP worker threads running a task");
+        registry.register(meta, new LambdaGauge(() -> httpWorkerStatistic(XnioWorkerMXBean::getBusyWorkerThreadCount)));
+
+        meta = new Metadata(HTTP_WORKER_QUEUE_SIZE, MetricType.GAUGE);
+        meta.setDescription("The number of tasks waiting for an HTTP worker thread");
+        registry.register(meta, new LambdaGauge(() -> httpWorkerStatistic(XnioWorkerMXBean::getWorkerQueueSize)));
+
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                registry.remove(HTTP_WORKER_POOL_SIZE);
+                registry.remove(HTTP_WORKER_POOL_MAX);
+                registry.remove(HTTP_WORKER_BUSY_THREADS);
+                registry.remove(HTTP_WORKER_QUEUE_SIZE);
+            }
+        });
+    }
+
+    private static int httpWorkerStatistic(ToIntFunction<XnioWorkerMXBean> statistic) {
+        XnioWorkerMXBean worker = UndertowDeploymentTemplate.getWorkerStatistics();
+        return worker == null ? 0 : statistic.applyAsInt(worker);
+    }
+
     public void createRegistries(BeanContainer container) {
         log.info("Creating registries");
         MetricRegistries.get(MetricRegistry.Type.APPLICATION);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.undertow.runtime.PrecompressedResources;
+
+/**
+ * Gzips the static resources of the application and computes their ETags, so that they can be served from memory
+ * by the {@link io.quarkus.undertow.runtime.PrecompressedResourceServlet}.
+ * <p>
+ * Resources larger than {@link #MAX_SIZE} and resources present in several archives are left to the default servlet.
+ * The gzipped version is only kept if it saves at least a tenth of the size.
+ */
+public class PrecompressedResourcesBuildStep {
+
+    private static final Logger log = Logger.getLogger(PrecompressedResourcesBuildStep.class);
+
+    static final int MAX_SIZE = 1024 * 1024;
+
+    @BuildStep
+    void precompress(ApplicationArchivesBuildItem applicationArchivesBuildItem, LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) throws IOException {
+        if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // the resources change while the application runs
+            return;
+        }
+        Map<String, Path> resources = new TreeMap<>();
+        Set<String> duplicates = new HashSet<>();
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            Path root = i.getChildPath("META-INF/resources");
+            if (root == null || !Files.isDirectory(root)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    String path = requestPath(root.relativize(file));
+                    if (resources.put(path, file) != null) {
+                        duplicates.add(path);
+                    }
+                }
+            }
+        }
+        resources.keySet().removeAll(duplicates);
+
+        StringBuilder index = new StringBuilder();
+        int gzipped = 0;
+        for (Map.Entry<String, Path> entry : resources.entrySet()) {
+            if (Files.size(entry.getValue()) > MAX_SIZE) {
+                continue;
+            }
+            String path = entry.getKey();
+            byte[] content = Files.readAllBytes(entry.getValue());
+            byte[] compressed = gzip(content);
+            boolean keepCompressed = compressed.length <= content.length - content.length / 10;
+            if (keepCompressed) {
+                generatedResources.produce(new GeneratedResourceBuildItem(
+                        PrecompressedResources.GZIP_PREFIX + path + PrecompressedResources.GZIP_SUFFIX, compressed));
+                gzipped++;
+            }
+            index.append(path).append('\t').append(etag(content)).append('\t').append(keepCompressed).append('\n');
+        }
+        generatedResources.produce(new GeneratedResourceBuildItem(PrecompressedResources.INDEX,
+                index.toString().getBytes(StandardCharsets.UTF_8)));
+        log.debugf("Precompressed %d of %d static resources", gzipped, resources.size());
+    }
+
+    /**
+     * @return the path with {@code /} as separator, whatever the separator of the file system is
+     */
+    static String requestPath(Path relative) {
+        StringJoiner path = new StringJoiner("/");
+        for (Path element : relative) {
+            path.add(element.toString());
+        }
+        return path.toString();
+    }
+
+    static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder etag = new StringBuilder(34).append('"');
+            for (int i = 0; i < 16; ++i) {
+                etag.append(Character.forDigit((digest[i] >> 4) & 0xf, 16)).append(Character.forDigit(digest[i] & 0xf, 16));
+            }
+            return etag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -156,6 +156,12 @@ public class UndertowBuildStep {
         return new ServiceStartBuildItem("undertow");
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    HttpHandlerWrapperBuildItem compression(UndertowDeploymentTemplate template) {
+        return new HttpHandlerWrapperBuildItem(template.createCompressionHandler(config));
+    }
+
     @BuildStep
     AdditionalBeanBuildItem httpProducers() {
         return new AdditionalBeanBuildItem(ServletProducer.class);
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+
+public class CompressionTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CompressionServlet.class)
+                    .addAsManifestResource(new StringAsset("quarkus.http.compression.enabled=true\n" +
+                            "quarkus.http.compression.min-size=100\n"), "microprofile-config.properties"));
+
+    @Test
+    public void testCompressedJson() throws IOException {
+        byte[] body = request().queryParam("type", "application/json; charset=UTF-8").queryParam("size", 5000)
+                .get("/compression").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .extract().asByteArray();
+        assertEquals(CompressionServlet.body(5000), gunzip(body));
+    }
+
+    @Test
+    public void testSmallResponseNotCompressed() {
+        request().queryParam("type", "application/json").queryParam("size", 50)
+                .get("/compression").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(CompressionServlet.body(50)));
+    }
+
+    @Test
+    public void testTypeNotCompressed() {
+        request().queryParam("type", "image/png").queryParam("size", 5000)
+                .get("/compression").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue());
+    }
+
+    @Test
+    public void testClientWithoutGzip() {
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity")
+                .queryParam("type", "application/json").queryParam("size", 5000)
+                .get("/compression").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(CompressionServlet.body(5000)));
+    }
+
+    private static RequestSpecification request() {
+        return RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip");
+    }
+
+    private static String gunzip(byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.xnio.OptionMap;
+import org.xnio.Options;
+import org.xnio.Xnio;
+import org.xnio.XnioWorker;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.undertow.client.ClientCallback;
+import io.undertow.client.ClientConnection;
+import io.undertow.client.ClientExchange;
+import io.undertow.client.ClientRequest;
+import io.undertow.client.UndertowClient;
+import io.undertow.server.DefaultByteBufferPool;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StringReadChannelListener;
+
+public class Http2TestCase {
+
+    static final int REQUESTS = 8;
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SlowServlet.class)
+                    .addAsManifestResource(new StringAsset("quarkus.http.http2.enabled=true\n"),
+                            "microprofile-config.properties"));
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    public void testMultiplexedRequests() throws Exception {
+        XnioWorker worker = Xnio.getInstance().createWorker(OptionMap.create(Options.WORKER_IO_THREADS, 1));
+        DefaultByteBufferPool pool = new DefaultByteBufferPool(false, 8192);
+        try {
+            URI h2c = new URI("h2c-prior", null, uri.getHost(), uri.getPort(), null, null, null);
+            ClientConnection connection = UndertowClient.getInstance().connect(h2c, worker, pool, OptionMap.EMPTY).get();
+            try {
+                assertTrue(connection.isMultiplexingSupported());
+
+                List<String> responses = new CopyOnWriteArrayList<>();
+                CountDownLatch latch = new CountDownLatch(REQUESTS);
+                long start = System.nanoTime();
+                connection.getIoThread().execute(() -> {
+                    for (int i = 0; i < REQUESTS; ++i) {
+                        ClientRequest request = new ClientRequest().setMethod(Methods.GET).setPath("/slow");
+                        request.getRequestHeaders().put(Headers.HOST, uri.getHost());
+                        connection.sendRequest(request, responseCallback(pool, responses, latch));
+                    }
+                });
+                assertTrue(latch.await(30, TimeUnit.SECONDS));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                assertEquals(REQUESTS, responses.size());
+                for (String response : responses) {
+                    assertEquals("HTTP/2.0", response);
+                }
+                // on a single connection the requests only finish this fast if they are handled concurrently
+                assertTrue(elapsedMillis < REQUESTS * SlowServlet.DELAY_MILLIS / 2,
+                        REQUESTS + " multiplexed requests took " + elapsedMillis + " ms");
+            } finally {
+                connection.close();
+            }
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    private static ClientCallback<ClientExchange> responseCallback(DefaultByteBufferPool pool, List<String> responses,
+            CountDownLatch latch) {
+        return new ClientCallback<ClientExchange>() {
+            @Override
+            public void completed(ClientExchange exchange) {
+                exchange.setResponseListener(new ClientCallback<ClientExchange>() {
+                    @Override
+                    public void completed(ClientExchange result) {
+                        new StringReadChannelListener(pool) {
+                            @Override
+                            protected void stringDone(String string) {
+                                responses.add(string);
+                                latch.countDown();
+                            }
+
+                            @Override
+                            protected void error(IOException e) {
+                                latch.countDown();
+                            }
+                        }.setup(result.getResponseChannel());
+                    }
+
+                    @Override
+                    public void failed(IOException e) {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            @Override
+            public void failed(IOException e) {
+                latch.countDown();
+            }
+        };
+    }
+}
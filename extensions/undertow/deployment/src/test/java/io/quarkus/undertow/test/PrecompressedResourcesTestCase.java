@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+
+public class PrecompressedResourcesTestCase {
+
+    static final String SCRIPT;
+
+    static {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 100; ++i) {
+            script.append("console.log('precompressed static resource ").append(i).append("');\n");
+        }
+        SCRIPT = script.toString();
+    }
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset(SCRIPT), "resources/script.js"));
+
+    @Test
+    public void testGzippedContent() throws IOException {
+        byte[] body = request().header("Accept-Encoding", "gzip, deflate").get("/script.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .extract().asByteArray();
+        assertEquals(SCRIPT, gunzip(body));
+    }
+
+    @Test
+    public void testIdentityContent() {
+        request().header("Accept-Encoding", "identity").get("/script.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(SCRIPT));
+    }
+
+    @Test
+    public void testNotModified() {
+        String etag = request().header("Accept-Encoding", "gzip").get("/script.js").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        request().header("If-None-Match", etag).header("Accept-Encoding", "gzip").get("/script.js").then()
+                .statusCode(304)
+                .header("ETag", etag);
+        request().header("If-None-Match", "\"other\"").header("Accept-Encoding", "gzip").get("/script.js").then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testGzippedEtag() {
+        String gzipEtag = request().header("Accept-Encoding", "gzip").get("/script.js").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        String identityEtag = request().header("Accept-Encoding", "identity").get("/script.js").then()
+                .statusCode(200)
+                .extract().header("ETag");
+        assertNotEquals(identityEtag, gzipEtag);
+        request().header("If-None-Match", identityEtag).header("Accept-Encoding", "gzip").get("/script.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip");
+    }
+
+    @Test
+    public void testNotModifiedSince() {
+        String lastModified = request().get("/script.js").then()
+                .statusCode(200)
+                .extract().header("Last-Modified");
+        assertNotNull(lastModified);
+        request().header("If-Modified-Since", lastModified).get("/script.js").then()
+                .statusCode(304);
+        request().header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").get("/script.js").then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testRange() {
+        request().header("Range", "bytes=0-6").header("Accept-Encoding", "identity").get("/script.js").then()
+                .statusCode(206)
+                .header("Content-Encoding", nullValue())
+                .body(is(SCRIPT.substring(0, 7)));
+    }
+
+    private static RequestSpecification request() {
+        return RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+
+    private static String gunzip(byte[] data) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
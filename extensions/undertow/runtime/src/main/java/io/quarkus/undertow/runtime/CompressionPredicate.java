@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.undertow.predicate.Predicate;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+
+/**
+ * Decides whether a response is compressed from its content type and length. It is resolved when the response
+ * is committed, so the response headers are known.
+ */
+final class CompressionPredicate implements Predicate {
+
+    private final Set<String> types = new HashSet<>();
+    private final List<String> typePrefixes = new ArrayList<>();
+    private final long minSize;
+
+    CompressionPredicate(List<String> mimeTypes, long minSize) {
+        for (String type : mimeTypes) {
+            type = type.trim().toLowerCase(Locale.ROOT);
+            if (type.endsWith("/*")) {
+                typePrefixes.add(type.substring(0, type.length() - 1));
+            } else if (!type.isEmpty()) {
+                types.add(type);
+            }
+        }
+        this.minSize = minSize;
+    }
+
+    @Override
+    public boolean resolve(HttpServerExchange exchange) {
+        long length = exchange.getResponseContentLength();
+        if (length >= 0 && length < minSize) {
+            return false;
+        }
+        String contentType = exchange.getResponseHeaders().getFirst(Headers.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int end = contentType.indexOf(';');
+        String type = (end < 0 ? contentType : contentType.substring(0, end)).trim().toLowerCase(Locale.ROOT);
+        if (types.contains(type)) {
+            return true;
+        }
+        for (String prefix : typePrefixes) {
+            if (type.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
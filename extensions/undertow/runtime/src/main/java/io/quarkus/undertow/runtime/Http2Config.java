@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of HTTP/2 support.
+ */
+@ConfigGroup
+public class Http2Config {
+
+    /**
+     * Whether to enable HTTP/2. It is negotiated with ALPN on the HTTPS listener, and on the HTTP listener
+     * clients can use the h2c upgrade or start with the HTTP/2 preface.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The maximum number of concurrent streams a client can open on a connection. If not given, the Undertow
+     * default is used.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrentStreams;
+
+    /**
+     * The initial flow control window of each stream in bytes. If not given, the HTTP/2 default of 65535 is used.
+     */
+    @ConfigItem
+    public OptionalInt initialWindowSize;
+
+    /**
+     * The largest frame payload the server accepts in bytes. If not given, the HTTP/2 default of 16384 is used.
+     */
+    @ConfigItem
+    public OptionalInt maxFrameSize;
+
+    /**
+     * The size of the header compression table in bytes. If not given, the HTTP/2 default of 4096 is used.
+     */
+    @ConfigItem
+    public OptionalInt headerTableSize;
+
+    /**
+     * Whether server push is allowed.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean push;
+}
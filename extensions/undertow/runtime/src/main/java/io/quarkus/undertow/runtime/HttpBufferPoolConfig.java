@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of the buffers used by the HTTP server for IO.
+ */
+@ConfigGroup
+public class HttpBufferPoolConfig {
+
+    /**
+     * The size of each buffer in bytes. If not given, it is derived from the maximum heap size,
+     * up to 16 KB once the heap is larger than 128 MB.
+     */
+    @ConfigItem
+    public OptionalInt size;
+
+    /**
+     * Whether the buffers are allocated outside of the heap. If not given, direct buffers are used
+     * once the heap is larger than 64 MB.
+     */
+    @ConfigItem
+    public Optional<Boolean> direct;
+}
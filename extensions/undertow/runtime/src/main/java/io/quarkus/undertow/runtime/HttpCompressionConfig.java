@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of the compression of HTTP responses.
+ */
+@ConfigGroup
+public class HttpCompressionConfig {
+
+    /**
+     * Whether to compress responses with gzip or deflate for the clients that accept it.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The media types of the responses to compress. A type ending with {@code /*} matches all its subtypes.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,"
+            + "application/json,application/xml")
+    public List<String> mimeTypes;
+
+    /**
+     * Responses with a known length smaller than this number of bytes are not compressed.
+     * Responses of unknown length are always compressed.
+     */
+    @ConfigItem(defaultValue = "1024")
+    public int minSize;
+
+    /**
+     * The compression level, from 1 for the fastest to 9 for the smallest output.
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+}
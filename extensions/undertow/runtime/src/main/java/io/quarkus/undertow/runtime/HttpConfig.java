@@ -58,7 +58,7 @@ public class HttpConfig {
 
     /**
      * The number of worker threads used for blocking tasks, this will be automatically set to a reasonable value
-     * based on the number of CPU core if it is not provided
+     * based on the number of IO threads if it is not provided
      */
     @ConfigItem
     public OptionalInt workerThreads;
@@ -70,6 +70,26 @@ public class HttpConfig {
     @ConfigItem
     public OptionalInt ioThreads;
 
+    /**
+     * The buffer pool config
+     */
+    public HttpBufferPoolConfig bufferPool;
+
+    /**
+     * The socket config
+     */
+    public HttpSocketConfig socket;
+
+    /**
+     * The response compression config
+     */
+    public HttpCompressionConfig compression;
+
+    /**
+     * The HTTP/2 config
+     */
+    public Http2Config http2;
+
     /**
      * The SSL config
      */
@@ -83,4 +103,20 @@ public class HttpConfig {
         return launchMode == LaunchMode.TEST ? testSslPort : sslPort;
     }
 
+    public int determineIoThreads(LaunchMode launchMode) {
+        if (ioThreads.isPresent()) {
+            return ioThreads.getAsInt();
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        //in development and testing mode half of the cores is enough
+        return Math.max(launchMode.isDevOrTest() ? processors / 2 : processors, 2);
+    }
+
+    public int determineWorkerThreads(LaunchMode launchMode) {
+        if (workerThreads.isPresent()) {
+            return workerThreads.getAsInt();
+        }
+        return determineIoThreads(launchMode) * (launchMode.isDevOrTest() ? 4 : 8);
+    }
+
 }
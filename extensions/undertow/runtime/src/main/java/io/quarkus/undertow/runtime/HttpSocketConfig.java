@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Configuration of the connections accepted by the HTTP server.
+ */
+@ConfigGroup
+public class HttpSocketConfig {
+
+    /**
+     * The maximum number of pending connections waiting to be accepted. If not given, 1000 is used.
+     */
+    @ConfigItem
+    public OptionalInt backlog;
+
+    /**
+     * Whether to disable Nagle's algorithm, so that small responses are sent without delay.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean tcpNoDelay;
+
+    /**
+     * The time after which a connection that has been idle is closed. If not given, idle connections
+     * are not closed.
+     */
+    @ConfigItem
+    public Optional<Duration> idleTimeout;
+
+    /**
+     * The time after which a connection that has not sent a request is closed. If not given, one minute is used.
+     */
+    @ConfigItem
+    public Optional<Duration> noRequestTimeout;
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.io.IOException;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.undertow.servlet.handlers.DefaultServlet;
+import io.undertow.util.Headers;
+
+/**
+ * A default servlet that serves the resources precompressed at build time from memory, and everything else
+ * like the {@link DefaultServlet}.
+ * <p>
+ * The gzipped content is sent to clients that accept it, with its own ETag. Requests whose {@code If-None-Match}
+ * header matches the ETag of the selected content, or whose {@code If-Modified-Since} header is not older than
+ * the resource, are answered with 304 without reading the resource again. Range requests are left to the
+ * {@link DefaultServlet}.
+ */
+public class PrecompressedResourceServlet extends DefaultServlet {
+
+    private static final String GZIP = "gzip";
+
+    private final PrecompressedResources resources;
+
+    public PrecompressedResourceServlet(PrecompressedResources resources) {
+        this.resources = resources;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (!serve(req, resp, true)) {
+            super.doGet(req, resp);
+        }
+    }
+
+    @Override
+    protected void doHead(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (!serve(req, resp, false)) {
+            super.doHead(req, resp);
+        }
+    }
+
+    private boolean serve(HttpServletRequest req, HttpServletResponse resp, boolean sendContent) throws IOException {
+        if (req.getDispatcherType() != DispatcherType.REQUEST) {
+            return false;
+        }
+        String path = req.getPathInfo() == null ? req.getServletPath() : req.getServletPath() + req.getPathInfo();
+        PrecompressedResources.Entry entry = resources.get(path);
+        if (entry == null) {
+            return false;
+        }
+        if (req.getHeader(Headers.RANGE_STRING) != null) {
+            return false;
+        }
+        boolean gzip = entry.gzipped != null && acceptsGzip(req.getHeader(Headers.ACCEPT_ENCODING_STRING));
+        String etag = gzip ? entry.gzippedEtag : entry.etag;
+        resp.setHeader(Headers.ETAG_STRING, etag);
+        resp.setDateHeader(Headers.LAST_MODIFIED_STRING, entry.lastModified);
+        if (entry.gzipped != null) {
+            resp.setHeader(Headers.VARY_STRING, Headers.ACCEPT_ENCODING_STRING);
+        }
+        String ifNoneMatch = req.getHeader(Headers.IF_NONE_MATCH_STRING);
+        // If-Modified-Since is ignored when If-None-Match is present
+        if (ifNoneMatch != null ? matches(ifNoneMatch, etag) : notModifiedSince(req, entry.lastModified)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        String contentType = getServletContext().getMimeType(entry.path);
+        if (contentType != null) {
+            resp.setContentType(contentType);
+        }
+        byte[] content = entry.content;
+        if (gzip) {
+            resp.setHeader(Headers.CONTENT_ENCODING_STRING, GZIP);
+            content = entry.gzipped;
+        }
+        resp.setContentLength(content.length);
+        if (sendContent) {
+            resp.getOutputStream().write(content);
+        }
+        return true;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean notModifiedSince(HttpServletRequest req, long lastModified) {
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = req.getDateHeader(Headers.IF_MODIFIED_SINCE_STRING);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP dates have a precision of one second
+        return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; ++i) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Float.parseFloat(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.undertow.runtime;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The static resources of the application held in memory, along with the gzipped content and strong ETags
+ * computed for them at build time.
+ */
+public final class PrecompressedResources {
+
+    /**
+     * The index of the precompressed resources, one resource per line as its path, ETag and whether a gzipped
+     * version exists, separated by tabs.
+     */
+    public static final String INDEX = "META-INF/quarkus-precompressed-resources.list";
+    public static final String RESOURCES_PREFIX = "META-INF/resources/";
+    public static final String GZIP_PREFIX = "META-INF/quarkus-precompressed/";
+    public static final String GZIP_SUFFIX = ".gz";
+
+    /**
+     * The default limit on the total size of the resources held in memory, gzipped versions included.
+     */
+    public static final long DEFAULT_MAX_TOTAL_SIZE = 32 * 1024 * 1024;
+
+    static final class Entry {
+
+        final String path;
+        final String etag;
+        final String gzippedEtag;
+        final long lastModified;
+        final byte[] content;
+        final byte[] gzipped;
+
+        Entry(String path, String etag, long lastModified, byte[] content, byte[] gzipped) {
+            this.path = path;
+            this.etag = etag;
+            // the gzipped representation is a different entity and must not share the strong ETag
+            this.gzippedEtag = gzipped == null ? null : etag.substring(0, etag.length() - 1) + "-gz\"";
+            this.lastModified = lastModified;
+            this.content = content;
+            this.gzipped = gzipped;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    private PrecompressedResources(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * @param path the request path
+     * @return the resource or {@code null} if it is not held in memory
+     */
+    Entry get(String path) {
+        return entries.get(path.startsWith("/") ? path.substring(1) : path);
+    }
+
+    /**
+     * @param classLoader the class loader of the application
+     * @param maxTotalSize the maximum number of bytes to hold in memory, the resources that do not fit are left to
+     *        the default servlet
+     * @return the resources or {@code null} if they were not precompressed at build time
+     */
+    public static PrecompressedResources load(ClassLoader classLoader, long maxTotalSize) throws IOException {
+        final InputStream index = classLoader.getResourceAsStream(INDEX);
+        if (index == null) {
+            return null;
+        }
+        final Map<String, Entry> entries = new HashMap<>();
+        // resources whose modification time is unknown were at best modified when the application was built
+        final long loadTime = System.currentTimeMillis();
+        long totalSize = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final String[] parts = line.split("\t");
+                final String path = parts[0];
+                final URL url = classLoader.getResource(RESOURCES_PREFIX + path);
+                if (url == null) {
+                    continue;
+                }
+                final URLConnection connection = url.openConnection();
+                final long lastModified = connection.getLastModified();
+                final byte[] content = read(connection.getInputStream());
+                final byte[] gzipped = Boolean.parseBoolean(parts[2])
+                        ? read(classLoader.getResourceAsStream(GZIP_PREFIX + path + GZIP_SUFFIX))
+                        : null;
+                final long size = content.length + (gzipped == null ? 0 : gzipped.length);
+                if (totalSize + size > maxTotalSize) {
+                    continue;
+                }
+                totalSize += size;
+                entries.put(path, new Entry(path, parts[1], lastModified > 0 ? lastModified : loadTime, content, gzipped));
+            }
+        }
+        return new PrecompressedResources(entries);
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        if (stream == null) {
+            return null;
+        }
+        try (InputStream in = stream) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            return out.toByteArray();
+        }
+    }
+}
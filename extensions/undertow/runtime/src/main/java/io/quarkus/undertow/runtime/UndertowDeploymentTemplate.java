@@ -37,6 +37,8 @@ import javax.servlet.ServletException;
 
 import org.jboss.logging.Logger;
 import org.wildfly.common.net.Inet;
+import org.xnio.Options;
+import org.xnio.management.XnioWorkerMXBean;
 
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
@@ -46,11 +48,16 @@ import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.annotations.Template;
 import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
 import io.undertow.server.HandlerWrapper;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.CanonicalPathHandler;
 import io.undertow.server.handlers.ResponseCodeHandler;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.DeflateEncodingProvider;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.server.handlers.encoding.GzipEncodingProvider;
 import io.undertow.server.handlers.resource.CachingResourceManager;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.PathResourceManager;
@@ -72,6 +79,7 @@ import io.undertow.servlet.api.ServletStackTraces;
 import io.undertow.servlet.api.ThreadSetupHandler;
 import io.undertow.servlet.handlers.DefaultServlet;
 import io.undertow.servlet.handlers.ServletPathMatches;
+import io.undertow.servlet.util.ImmediateInstanceFactory;
 
 /**
  * Provides the runtime methods to bootstrap Undertow. This class is present in the final uber-jar,
@@ -130,7 +138,22 @@ public class UndertowDeploymentTemplate {
         }
         d.addWelcomePages("index.html", "index.htm");
 
-        d.addServlet(new ServletInfo(ServletPathMatches.DEFAULT_SERVLET_NAME, DefaultServlet.class).setAsyncSupported(true));
+        PrecompressedResources precompressedResources = null;
+        if (resourcesDir == null && launchMode != LaunchMode.DEVELOPMENT) {
+            try {
+                precompressedResources = PrecompressedResources.load(cl, PrecompressedResources.DEFAULT_MAX_TOTAL_SIZE);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load the precompressed static resources", e);
+            }
+        }
+        if (precompressedResources != null) {
+            d.addServlet(new ServletInfo(ServletPathMatches.DEFAULT_SERVLET_NAME, PrecompressedResourceServlet.class,
+                    new ImmediateInstanceFactory<>(new PrecompressedResourceServlet(precompressedResources)))
+                            .setAsyncSupported(true));
+        } else {
+            d.addServlet(
+                    new ServletInfo(ServletPathMatches.DEFAULT_SERVLET_NAME, DefaultServlet.class).setAsyncSupported(true));
+        }
 
         context.addShutdownTask(new Runnable() {
             @Override
@@ -145,6 +168,17 @@ public class UndertowDeploymentTemplate {
         return new RuntimeValue<>(d);
     }
 
+    /**
+     * @return the statistics of the worker thread pool, or {@code null} if Undertow is not running
+     */
+    public static XnioWorkerMXBean getWorkerStatistics() {
+        Undertow server = undertow;
+        if (server == null || server.getWorker() == null) {
+            return null;
+        }
+        return server.getWorker().getMXBean();
+    }
+
     public static SocketAddress getHttpAddress() {
         for (Undertow.ListenerInfo info : undertow.getListenerInfo()) {
             if (info.getProtcol().equals("http") && info.getSslContext() == null) {
@@ -303,6 +337,32 @@ public class UndertowDeploymentTemplate {
         return new RuntimeValue<>(undertow);
     }
 
+    public HandlerWrapper createCompressionHandler(HttpConfig config) {
+        HttpCompressionConfig compression = config.compression;
+        if (!compression.enabled) {
+            return new HandlerWrapper() {
+                @Override
+                public HttpHandler wrap(HttpHandler handler) {
+                    return handler;
+                }
+            };
+        }
+        if (compression.level < 1 || compression.level > 9) {
+            throw new IllegalArgumentException(
+                    "The HTTP compression level must be between 1 and 9 but was " + compression.level);
+        }
+        CompressionPredicate allowed = new CompressionPredicate(compression.mimeTypes, compression.minSize);
+        ContentEncodingRepository encodings = new ContentEncodingRepository()
+                .addEncodingHandler("gzip", new GzipEncodingProvider(compression.level), 100, allowed)
+                .addEncodingHandler("deflate", new DeflateEncodingProvider(compression.level), 50, allowed);
+        return new HandlerWrapper() {
+            @Override
+            public HttpHandler wrap(HttpHandler handler) {
+                return new EncodingHandler(handler, encodings);
+            }
+        };
+    }
+
     public static void setHotDeployment(HandlerWrapper handlerWrapper) {
         hotDeploymentWrapper = handlerWrapper;
     }
@@ -325,19 +385,33 @@ public class UndertowDeploymentTemplate {
                 rootHandler = hotDeploymentWrapper.wrap(rootHandler);
             }
 
+            int ioThreads = config.determineIoThreads(launchMode);
+            int workerThreads = config.determineWorkerThreads(launchMode);
+            log.debugf("Using %d IO threads and %d worker threads", ioThreads, workerThreads);
             Undertow.Builder builder = Undertow.builder()
                     .addHttpListener(port, config.host)
-                    .setHandler(rootHandler);
-            if (config.ioThreads.isPresent()) {
-                builder.setIoThreads(config.ioThreads.getAsInt());
-            } else if (launchMode.isDevOrTest()) {
-                //we limit the number of IO and worker threads in development and testing mode
-                builder.setIoThreads(2);
+                    .setHandler(rootHandler)
+                    .setIoThreads(ioThreads)
+                    .setWorkerThreads(workerThreads)
+                    .setSocketOption(Options.TCP_NODELAY, config.socket.tcpNoDelay);
+            if (config.bufferPool.size.isPresent()) {
+                builder.setBufferSize(config.bufferPool.size.getAsInt());
+            }
+            if (config.bufferPool.direct.isPresent()) {
+                builder.setDirectBuffers(config.bufferPool.direct.get());
+            }
+            if (config.socket.backlog.isPresent()) {
+                builder.setSocketOption(Options.BACKLOG, config.socket.backlog.getAsInt());
+            }
+            if (config.socket.idleTimeout.isPresent()) {
+                builder.setServerOption(UndertowOptions.IDLE_TIMEOUT, (int) config.socket.idleTimeout.get().toMillis());
             }
-            if (config.workerThreads.isPresent()) {
-                builder.setWorkerThreads(config.workerThreads.getAsInt());
-            } else if (launchMode.isDevOrTest()) {
-                builder.setWorkerThreads(6);
+            if (config.socket.noRequestTimeout.isPresent()) {
+                builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT,
+                        (int) config.socket.noRequestTimeout.get().toMillis());
+            }
+            if (config.http2.enabled) {
+                configureHttp2(builder, config.http2);
             }
             if (sslContext != null) {
                 log.debugf("Starting Undertow HTTPS listener on port %d", sslPort);
@@ -349,6 +423,24 @@ public class UndertowDeploymentTemplate {
         }
     }
 
+    private static void configureHttp2(Undertow.Builder builder, Http2Config config) {
+        builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true)
+                .setServerOption(UndertowOptions.HTTP2_SETTINGS_ENABLE_PUSH, config.push);
+        if (config.maxConcurrentStreams.isPresent()) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_CONCURRENT_STREAMS,
+                    config.maxConcurrentStreams.getAsInt());
+        }
+        if (config.initialWindowSize.isPresent()) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_INITIAL_WINDOW_SIZE, config.initialWindowSize.getAsInt());
+        }
+        if (config.maxFrameSize.isPresent()) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_MAX_FRAME_SIZE, config.maxFrameSize.getAsInt());
+        }
+        if (config.headerTableSize.isPresent()) {
+            builder.setServerOption(UndertowOptions.HTTP2_SETTINGS_HEADER_TABLE_SIZE, config.headerTableSize.getAsInt());
+        }
+    }
+
     public DeploymentManager bootServletContainer(RuntimeValue<DeploymentInfo> info, BeanContainer beanContainer) {
         try {
             ClassIntrospecter defaultVal = info.getValue().getClassIntrospecter();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.arc.benchmarks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.jandex.Indexer;
+
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+
+/**
+ * Generates the bean deployment used by the benchmarks. Executed after compilation so that the generated classes and the
+ * {@link io.quarkus.arc.ComponentsProvider} service file are packaged together with the benchmarks.
+ */
+public final class BenchmarkDeploymentGenerator {
+
+    static final Class<?>[] BEAN_CLASSES = { Simple.class, SimpleInterceptor.class, ApplicationScopedService.class,
+            RequestScopedService.class, InterceptedService.class, BenchmarkEvent.class, EventObserver.class, EventSource.class };
+
+    private BenchmarkDeploymentGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BenchmarkDeploymentGenerator <output directory>");
+        }
+        File outputDirectory = new File(args[0]);
+
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : BEAN_CLASSES) {
+            try (InputStream stream = BenchmarkDeploymentGenerator.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+
+        BeanProcessor.builder()
+                .setName("Benchmarks")
+                .setIndex(indexer.complete())
+                .setOutput(new ResourceOutput() {
+
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(outputDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                File serviceFile = new File(outputDirectory, "META-INF/services/" + resource.getName());
+                                serviceFile.getParentFile().mkdirs();
+                                try (FileOutputStream out = new FileOutputStream(serviceFile)) {
+                                    out.write(resource.getData());
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build()
+                .process();
+    }
+
+}
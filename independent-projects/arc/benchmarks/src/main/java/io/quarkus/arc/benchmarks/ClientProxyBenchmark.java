@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ManagedContext;
+
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class ClientProxyBenchmark {
+
+    ApplicationScopedService applicationScoped;
+
+    RequestScopedService requestScoped;
+
+    ManagedContext requestContext;
+
+    int value;
+
+    @Setup
+    public void setup(ContainerState state) {
+        applicationScoped = state.container.instance(ApplicationScopedService.class).get();
+        requestScoped = state.container.instance(RequestScopedService.class).get();
+        requestContext = state.container.requestContext();
+        requestContext.activate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int applicationScoped() {
+        return applicationScoped.ping(value++);
+    }
+
+    @Benchmark
+    public int requestScoped() {
+        return requestScoped.ping(value++);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComputingCache;
+import io.quarkus.arc.InstanceHandle;
+
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ComputingCacheBenchmark {
+
+    ComputingCache<String, Integer> cache;
+
+    String[] keys;
+
+    ArcContainer container;
+
+    @Setup
+    public void setup(ContainerState state) {
+        cache = new ComputingCache<>(String::length);
+        keys = new String[64];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "key" + i;
+            cache.getValue(keys[i]);
+        }
+        container = state.container;
+    }
+
+    @Benchmark
+    public Integer cacheHit(ThreadIndex index) {
+        return cache.getValue(keys[index.next() & (keys.length - 1)]);
+    }
+
+    /**
+     * Typesafe resolution is backed by a {@link ComputingCache} in the container.
+     */
+    @Benchmark
+    public InstanceHandle<ApplicationScopedService> resolveInstance() {
+        return container.instance(ApplicationScopedService.class);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadIndex {
+
+        int index;
+
+        int next() {
+            return index++;
+        }
+
+    }
+
+}
@@ -17,9 +17,12 @@
 package io.quarkus.arc.processor;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -275,53 +278,7 @@ public class BeanDeployment {
 
         if (removeUnusedBeans) {
             long removalStart = System.currentTimeMillis();
-            Set<BeanInfo> removable = new HashSet<>();
-            Set<BeanInfo> unusedProducers = new HashSet<>();
-            List<BeanInfo> producers = beans.stream().filter(b -> b.isProducerMethod() || b.isProducerField()).collect(Collectors.toList());
-            List<InjectionPointInfo> instanceInjectionPoints = injectionPoints.stream().filter(ip -> BuiltinBean.resolve(ip) == BuiltinBean.INSTANCE)
-                    .collect(Collectors.toList());
-            for (BeanInfo bean : beans) {
-                // Named beans can be used in templates and expressions
-                if (bean.getName() != null) {
-                    continue;
-                }
-                // Custom exclusions
-                if (unusedExclusions.stream().anyMatch(e -> e.test(bean))) {
-                    continue;
-                }
-                // Is injected
-                if (injectionPoints.stream().anyMatch(ip -> bean.equals(ip.getResolvedBean()))) {
-                    continue;
-                }
-                // Declares an observer method
-                if (observers.stream().anyMatch((o) -> bean.equals(o.getDeclaringBean()))) {
-                    continue;
-                }
-                // Declares a producer - see also second pass
-                if (producers.stream().anyMatch(b -> bean.equals(b.getDeclaringBean()))) {
-                    continue;
-                }
-                // Instance<Foo>
-                if (instanceInjectionPoints.stream().anyMatch(ip -> Beans.matchesType(bean, ip.getRequiredType().asParameterizedType().arguments().get(0))
-                        && ip.getRequiredQualifiers().stream().allMatch(q -> Beans.hasQualifier(bean, q)))) {
-                    continue;
-                }
-                if (bean.isProducerField() || bean.isProducerMethod()) {
-                    // This bean is very likely an unused producer
-                    unusedProducers.add(bean);
-                }
-                removable.add(bean);
-            }
-            if (!unusedProducers.isEmpty()) {
-                // Second pass to find beans which themselves are unused and declare only unused producers
-                Map<BeanInfo, List<BeanInfo>> declaringMap = producers.stream().collect(Collectors.groupingBy(BeanInfo::getDeclaringBean));
-                for (Entry<BeanInfo, List<BeanInfo>> entry : declaringMap.entrySet()) {
-                    if (unusedProducers.containsAll(entry.getValue())) {
-                        // All producers declared by this bean are unused
-                        removable.add(entry.getKey());
-                    }
-                }
-            }
+            Set<BeanInfo> removable = findUnusedBeans();
             if (!removable.isEmpty()) {
                 beans.removeAll(removable);
                 removedBeans.addAll(removable);
@@ -329,9 +286,99 @@ public class BeanDeployment {
             }
             LOGGER.debugf("Removed %s unused beans in %s ms", removable.size(), System.currentTimeMillis() - removalStart);
         }
+        initContextSlots();
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
+    /**
+     * A bean is used if it has a name, is excluded, declares an observer, is eligible for an {@code Instance<>} injection point or is injected into an
+     * injection point that is not declared by a bean (observers, interceptors). Beans injected into a used bean and the declaring beans of used producers
+     * are used as well. All the other beans are unused, including beans that only inject each other.
+     *
+     * @return the set of unused beans
+     */
+    private Set<BeanInfo> findUnusedBeans() {
+        // Injection points declared by beans, the rest (observers, interceptors) is always considered used
+        Set<InjectionPointInfo> beanInjectionPoints = new HashSet<>();
+        for (BeanInfo bean : beans) {
+            beanInjectionPoints.addAll(bean.getAllInjectionPoints());
+        }
+        Set<BeanInfo> declaresObserver = new HashSet<>();
+        for (ObserverInfo observer : observers) {
+            declaresObserver.add(observer.getDeclaringBean());
+        }
+        List<InjectionPointInfo> instanceInjectionPoints = new ArrayList<>();
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            if (injectionPoint.getResolvedBean() == null && BuiltinBean.resolve(injectionPoint) == BuiltinBean.INSTANCE) {
+                instanceInjectionPoints.add(injectionPoint);
+            }
+        }
+
+        Set<BeanInfo> used = new HashSet<>();
+        Deque<BeanInfo> worklist = new ArrayDeque<>();
+        for (BeanInfo bean : beans) {
+            // Named beans can be used in templates and expressions
+            if (bean.getName() != null
+                    // Custom exclusions
+                    || unusedExclusions.stream().anyMatch(e -> e.test(bean))
+                    // Declares an observer method
+                    || declaresObserver.contains(bean)
+                    // Instance<Foo>
+                    || instanceInjectionPoints.stream()
+                            .anyMatch(ip -> Beans.matchesType(bean, ip.getRequiredType().asParameterizedType().arguments().get(0))
+                                    && ip.getRequiredQualifiers().stream().allMatch(q -> Beans.hasQualifier(bean, q)))) {
+                markUsed(bean, used, worklist);
+            }
+        }
+        for (InjectionPointInfo injectionPoint : injectionPoints) {
+            if (injectionPoint.getResolvedBean() != null && !beanInjectionPoints.contains(injectionPoint)) {
+                markUsed(injectionPoint.getResolvedBean(), used, worklist);
+            }
+        }
+
+        // Follow the injection points of used beans and the declaring beans of used producers
+        while (!worklist.isEmpty()) {
+            BeanInfo bean = worklist.poll();
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                if (injectionPoint.getResolvedBean() != null) {
+                    markUsed(injectionPoint.getResolvedBean(), used, worklist);
+                }
+            }
+            if (bean.getDeclaringBean() != null) {
+                markUsed(bean.getDeclaringBean(), used, worklist);
+            }
+        }
+
+        Set<BeanInfo> removable = new HashSet<>();
+        for (BeanInfo bean : beans) {
+            if (!used.contains(bean)) {
+                removable.add(bean);
+            }
+        }
+        return removable;
+    }
+
+    private static void markUsed(BeanInfo bean, Set<BeanInfo> used, Deque<BeanInfo> worklist) {
+        if (used.add(bean)) {
+            worklist.add(bean);
+        }
+    }
+
+    /**
+     * Assign a dense slot index to every bean whose scope is not {@link javax.enterprise.context.Dependent}. Slots are assigned per scope, i.e. the first
+     * request scoped bean and the first application scoped bean both get slot 0. Contexts may use the slot to store contextual instances in an array.
+     */
+    private void initContextSlots() {
+        Map<ScopeInfo, Integer> scopeToSlot = new EnumMap<>(ScopeInfo.class);
+        for (BeanInfo bean : beans) {
+            if (!bean.getScope().isDefault()) {
+                int slot = scopeToSlot.getOrDefault(bean.getScope(), 0);
+                bean.setContextSlot(slot);
+                scopeToSlot.put(bean.getScope(), slot + 1);
+            }
+        }
+    }
+
     static Map<DotName, ClassInfo> findQualifiers(IndexView index) {
         Map<DotName, ClassInfo> qualifiers = new HashMap<>();
         for (AnnotationInstance qualifier : index.getAnnotations(DotNames.QUALIFIER)) {
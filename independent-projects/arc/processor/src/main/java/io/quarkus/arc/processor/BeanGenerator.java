@@ -212,6 +212,7 @@ public class BeanGenerator extends AbstractGenerator {
         implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
         if (!bean.getScope().isDefault()) {
             implementGetScope(bean, beanCreator);
+            implementGetContextSlot(bean, beanCreator);
         }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
@@ -282,6 +283,7 @@ public class BeanGenerator extends AbstractGenerator {
         implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
         if (!bean.getScope().isDefault()) {
             implementGetScope(bean, beanCreator);
+            implementGetContextSlot(bean, beanCreator);
         }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
@@ -363,6 +365,7 @@ public class BeanGenerator extends AbstractGenerator {
         implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
         if (!bean.getScope().isDefault()) {
             implementGetScope(bean, beanCreator);
+            implementGetContextSlot(bean, beanCreator);
         }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
@@ -430,6 +433,7 @@ public class BeanGenerator extends AbstractGenerator {
         implementGetTypes(beanCreator, beanTypes.getFieldDescriptor());
         if (!bean.getScope().isDefault()) {
             implementGetScope(bean, beanCreator);
+            implementGetContextSlot(bean, beanCreator);
         }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
@@ -1211,6 +1215,17 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.loadClass(bean.getScope().getClazz()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getContextSlot()
+     */
+    protected void implementGetContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getContextSlot = beanCreator.getMethodCreator("getContextSlot", int.class).setModifiers(ACC_PUBLIC);
+        getContextSlot.returnValue(getContextSlot.load(bean.getContextSlot()));
+    }
+
     /**
      *
      * @param bean
@@ -87,6 +87,8 @@ public class BeanInfo {
 
     private final Map<String, Object> params;
 
+    private int contextSlot = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -225,6 +227,19 @@ public class BeanInfo {
         return scope;
     }
 
+    /**
+     *
+     * @return the index of this bean among all beans with the same scope, or -1 if no slot was assigned
+     * @see io.quarkus.arc.InjectableBean#getContextSlot()
+     */
+    public int getContextSlot() {
+        return contextSlot;
+    }
+
+    void setContextSlot(int contextSlot) {
+        this.contextSlot = contextSlot;
+    }
+
     public Set<Type> getTypes() {
         return types;
     }
@@ -18,6 +18,7 @@ package io.quarkus.arc.processor;
 
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -40,6 +41,7 @@ import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.CreationalContextImpl;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -100,7 +102,13 @@ public class ClientProxyGenerator extends AbstractGenerator {
         FieldCreator beanField = clientProxy.getFieldCreator("bean", DescriptorUtils.extToInt(beanClassName)).setModifiers(ACC_PRIVATE | ACC_FINAL);
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        if (ScopeInfo.APPLICATION.equals(bean.getScope())) {
+            // The contextual instance handle is cached until the instance is destroyed
+            FieldCreator handleField = clientProxy.getFieldCreator("handle", InstanceHandle.class).setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+            implementCachingDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor(), handleField.getFieldDescriptor());
+        } else {
+            implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        }
         implementGetContextualInstance(clientProxy, providerTypeName);
 
         for (MethodInfo method : getDelegatingMethods(bean)) {
@@ -189,6 +197,31 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(ret);
     }
 
+    void implementCachingDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField, FieldDescriptor handleField) {
+        MethodCreator creator = clientProxy.getMethodCreator("delegate", providerTypeName).setModifiers(Modifier.PRIVATE);
+        // InstanceHandle handle = this.handle;
+        AssignableResultHandle handle = creator.createVariable(InstanceHandle.class);
+        creator.assign(handle, creator.readInstanceField(handleField, creator.getThis()));
+        // if (handle != null && handle.isAvailable()) return handle.get();
+        BytecodeCreator notNull = creator.ifNull(handle).falseBranch();
+        BytecodeCreator available = notNull.ifNonZero(notNull.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_IS_AVAILABLE, handle)).trueBranch();
+        available.returnValue(available.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
+        // handle = ClientProxies.getApplicationScopedHandle(bean);
+        ResultHandle bean = creator.readInstanceField(beanField, creator.getThis());
+        creator.assign(handle, creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE, bean));
+        // if (handle.isAvailable()) { this.handle = handle; return handle.get(); }
+        BytecodeCreator fresh = creator.ifNonZero(creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_IS_AVAILABLE, handle)).trueBranch();
+        fresh.writeInstanceField(handleField, fresh.getThis(), handle);
+        fresh.returnValue(fresh.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
+        // The instance was destroyed in the meantime - do not cache, Arc.container().getContext(bean.getScope()).get(bean, new CreationalContextImpl<>())
+        ResultHandle container = creator.invokeStaticMethod(MethodDescriptor.ofMethod(Arc.class, "container", ArcContainer.class));
+        ResultHandle scope = creator.invokeInterfaceMethod(MethodDescriptor.ofMethod(InjectableBean.class, "getScope", Class.class), bean);
+        ResultHandle context = creator.invokeInterfaceMethod(MethodDescriptor.ofMethod(ArcContainer.class, "getContext", InjectableContext.class, Class.class),
+                container, scope);
+        ResultHandle creationContext = creator.newInstance(MethodDescriptor.ofConstructor(CreationalContextImpl.class));
+        creator.returnValue(creator.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET, context, bean, creationContext));
+    }
+
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
         MethodCreator creator = clientProxy.getMethodCreator("getContextualInstance", Object.class).setModifiers(Modifier.PUBLIC);
         creator.returnValue(
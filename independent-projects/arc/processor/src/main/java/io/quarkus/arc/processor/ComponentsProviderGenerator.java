@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -76,7 +77,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         // Bar -> Foo, Baz
         // Foo -> Baz
         // Interceptor -> Baz
-        Map<BeanInfo, List<BeanInfo>> beanToInjections = new HashMap<>();
+        Map<BeanInfo, List<BeanInfo>> beanToInjections = new LinkedHashMap<>();
         for (BeanInfo bean : beanDeployment.getBeans()) {
             if (bean.isProducerMethod() || bean.isProducerField()) {
                 beanToInjections.computeIfAbsent(bean.getDeclaringBean(), d -> new ArrayList<>()).add(bean);
@@ -35,12 +35,14 @@ import javax.interceptor.InvocationContext;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxies;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.CreationalContextImpl;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.InvocationContextImpl;
 import io.quarkus.arc.InvocationContextImpl.InterceptorInvocation;
 import io.quarkus.arc.LazyValue;
@@ -138,6 +140,13 @@ final class MethodDescriptors {
 
     static final MethodDescriptor CONTEXT_GET_IF_PRESENT = MethodDescriptor.ofMethod(Context.class, "get", Object.class, Contextual.class);
 
+    static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class, "getApplicationScopedHandle",
+            InstanceHandle.class, InjectableBean.class);
+
+    static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get", Object.class);
+
+    static final MethodDescriptor INSTANCE_HANDLE_IS_AVAILABLE = MethodDescriptor.ofMethod(InstanceHandle.class, "isAvailable", boolean.class);
+
     static final MethodDescriptor LAZY_VALUE_GET = MethodDescriptor.ofMethod(LazyValue.class, "get", Object.class);
 
     private MethodDescriptors() {
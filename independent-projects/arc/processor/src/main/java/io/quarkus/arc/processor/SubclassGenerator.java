@@ -19,6 +19,7 @@ package io.quarkus.arc.processor;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,6 +29,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -178,25 +180,15 @@ public class SubclassGenerator extends AbstractGenerator {
         }
 
         // Init intercepted methods and interceptor chains
-        // private final Map<String, List<InvocationContextImpl.InterceptorInvocation>> interceptorChains
-        FieldCreator interceptorChainsField = subclass.getFieldCreator("interceptorChains", Map.class.getName()).setModifiers(ACC_PRIVATE | ACC_FINAL);
-        // interceptorChains = new HashMap<>()
-        constructor.writeInstanceField(interceptorChainsField.getFieldDescriptor(), constructor.getThis(),
-                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
-        ResultHandle interceptorChainsHandle = constructor.readInstanceField(interceptorChainsField.getFieldDescriptor(), constructor.getThis());
-        // private final Map<String, Method> methods
-        FieldCreator methodsField = subclass.getFieldCreator("methods", DescriptorUtils.extToInt(Map.class.getName())).setModifiers(ACC_PRIVATE | ACC_FINAL);
-        constructor.writeInstanceField(methodsField.getFieldDescriptor(), constructor.getThis(),
-                constructor.newInstance(MethodDescriptor.ofConstructor(HashMap.class)));
-        ResultHandle methodsHandle = constructor.readInstanceField(methodsField.getFieldDescriptor(), constructor.getThis());
-
         int methodIdx = 1;
         for (Entry<MethodInfo, InterceptionInfo> entry : bean.getInterceptedMethods().entrySet()) {
             String methodId = "m" + methodIdx++;
             MethodInfo method = entry.getKey();
-            ResultHandle methodIdHandle = constructor.load(methodId);
 
             // First create interceptor chains
+            // private final List<InvocationContextImpl.InterceptorInvocation> m1Chain
+            FieldCreator chainField = subclass.getFieldCreator(methodId + "Chain", DescriptorUtils.extToInt(List.class.getName()))
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
             // List<InvocationContextImpl.InterceptorInvocation> m1Chain = new ArrayList<>()
             ResultHandle chainHandle = constructor.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
             InterceptionInfo interceptedMethod = entry.getValue();
@@ -209,9 +201,12 @@ public class SubclassGenerator extends AbstractGenerator {
                         interceptorToResultHandle.get(interceptor), interceptorInstance);
                 constructor.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, chainHandle, interceptionInvocation);
             }
-            // interceptorChains.put("m1", m1Chain)
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, interceptorChainsHandle, methodIdHandle, chainHandle);
-            // methods.put("m1", Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class))
+            constructor.writeInstanceField(chainField.getFieldDescriptor(), constructor.getThis(), chainHandle);
+
+            // private final Method m1Method
+            FieldCreator methodField = subclass.getFieldCreator(methodId + "Method", DescriptorUtils.extToInt(Method.class.getName()))
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // m1Method = Reflections.findMethod(org.jboss.weld.arc.test.interceptors.SimpleBean.class,"foo",java.lang.String.class)
             ResultHandle[] paramsHandles = new ResultHandle[3];
             paramsHandles[0] = constructor.loadClass(providerTypeName);
             paramsHandles[1] = constructor.load(method.name());
@@ -225,35 +220,44 @@ public class SubclassGenerator extends AbstractGenerator {
                 paramsHandles[2] = constructor.newArray(Class.class, constructor.load(0));
             }
             ResultHandle methodHandle = constructor.invokeStaticMethod(MethodDescriptors.REFLECTIONS_FIND_METHOD, paramsHandles);
-            constructor.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, methodsHandle, methodIdHandle, methodHandle);
+            constructor.writeInstanceField(methodField.getFieldDescriptor(), constructor.getThis(), methodHandle);
 
             // Needed when running on substrate VM
             reflectionRegistration.registerMethod(method);
 
+            // Interceptor bindings are shared by all invocations of the method
+            // private final Set<Annotation> m1Bindings
+            FieldCreator bindingsField = subclass.getFieldCreator(methodId + "Bindings", DescriptorUtils.extToInt(Set.class.getName()))
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            ResultHandle bindingsHandle = constructor.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+            for (AnnotationInstance binding : interceptedMethod.bindings) {
+                // Create annotation literals first
+                ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
+                constructor.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
+                        annotationLiterals.process(constructor, classOutput, bindingClass, binding, Types.getPackageName(subclass.getClassName())));
+            }
+            // m1Bindings = Collections.unmodifiableSet(bindings)
+            constructor.writeInstanceField(bindingsField.getFieldDescriptor(), constructor.getThis(),
+                    constructor.invokeStaticMethod(MethodDescriptors.COLLECTIONS_UNMODIFIABLE_SET, bindingsHandle));
+
+            // Forwarding function is shared by all invocations of the method
+            // private final Function<InvocationContext, Object> m1Forward
+            FieldCreator forwardField = subclass.getFieldCreator(methodId + "Forward", DescriptorUtils.extToInt(Function.class.getName()))
+                    .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            createForwardingFunction(constructor, method, providerTypeName, forwardField.getFieldDescriptor());
+
             // Finally create the forwarding method
-            createForwardingMethod(classOutput, bean, method, methodId, subclass, providerTypeName, interceptorChainsField.getFieldDescriptor(),
-                    methodsField.getFieldDescriptor(), interceptedMethod);
+            createForwardingMethod(method, subclass, chainField.getFieldDescriptor(), methodField.getFieldDescriptor(),
+                    bindingsField.getFieldDescriptor(), forwardField.getFieldDescriptor());
         }
 
         constructor.returnValue(null);
         return preDestroysField != null ? preDestroysField.getFieldDescriptor() : null;
     }
 
-    private void createForwardingMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, String methodId, ClassCreator subclass,
-            String providerTypeName, FieldDescriptor interceptorChainsField, FieldDescriptor methodsField, InterceptionInfo interceptedMethod) {
-
-        MethodCreator forwardMethod = subclass.getMethodCreator(MethodDescriptor.of(method));
-
-        // Params
-        // Object[] params = new Object[] {p1}
-        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
-        for (int i = 0; i < method.parameters().size(); i++) {
-            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
-        }
-
-        // Forwarding function
+    private void createForwardingFunction(MethodCreator constructor, MethodInfo method, String providerTypeName, FieldDescriptor forwardField) {
         // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = forwardMethod.createFunction(Function.class);
+        FunctionCreator func = constructor.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles = new ResultHandle[method.parameters().size()];
@@ -266,14 +270,29 @@ public class SubclassGenerator extends AbstractGenerator {
         ResultHandle superResult = funcBytecode.invokeSpecialMethod(
                 MethodDescriptor.ofMethod(providerTypeName, method.name(), method.returnType().name().toString(),
                         method.parameters().stream().map(p -> p.name().toString()).collect(Collectors.toList()).toArray(new String[0])),
-                forwardMethod.getThis(), superParamHandles);
+                constructor.getThis(), superParamHandles);
         funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
+        // m1Forward = forward
+        constructor.writeInstanceField(forwardField, constructor.getThis(), func.getInstance());
+    }
+
+    private void createForwardingMethod(MethodInfo method, ClassCreator subclass, FieldDescriptor chainField, FieldDescriptor methodField,
+            FieldDescriptor bindingsField, FieldDescriptor forwardField) {
+
+        MethodCreator forwardMethod = subclass.getMethodCreator(MethodDescriptor.of(method));
+
+        // Params
+        // Object[] params = new Object[] {p1}
+        ResultHandle paramsHandle = forwardMethod.newArray(Object.class, forwardMethod.load(method.parameters().size()));
+        for (int i = 0; i < method.parameters().size(); i++) {
+            forwardMethod.writeArrayValue(paramsHandle, i, forwardMethod.getMethodParam(i));
+        }
         for (Type declaredException : method.exceptions()) {
             forwardMethod.addException(declaredException.name().toString());
         }
 
         // InvocationContext
-        // (java.lang.String) InvocationContextImpl.aroundInvoke(this, methods.get("m1"), params, interceptorChains.get("m1"), forward).proceed()
+        // (java.lang.String) InvocationContextImpl.aroundInvoke(this, m1Method, params, m1Chain, m1Forward, m1Bindings).proceed()
         TryBlock tryCatch = forwardMethod.tryBlock();
         // catch exceptions declared on the original method
         boolean addCatchRuntimeException = true;
@@ -302,26 +321,13 @@ public class SubclassGenerator extends AbstractGenerator {
             // and wrap them in a new RuntimeException(e)
             catchOtherExceptions.throwException(RuntimeException.class, "Error invoking subclass method", catchOtherExceptions.getCaughtException());
         }
-        // InvocationContextImpl.aroundInvoke(this, methods.get("m1"), params, interceptorChains.get("m1"), forward)
-        ResultHandle methodIdHandle = tryCatch.load(methodId);
-        ResultHandle interceptedMethodHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(methodsField, tryCatch.getThis()), methodIdHandle);
-        ResultHandle interceptedChainHandle = tryCatch.invokeInterfaceMethod(MethodDescriptors.MAP_GET,
-                tryCatch.readInstanceField(interceptorChainsField, tryCatch.getThis()), methodIdHandle);
-        // Interceptor bindings
-        ResultHandle bindingsHandle = tryCatch.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
-        for (AnnotationInstance binding : interceptedMethod.bindings) {
-            // Create annotation literals first
-            ClassInfo bindingClass = bean.getDeployment().getInterceptorBinding(binding.name());
-            tryCatch.invokeInterfaceMethod(MethodDescriptors.SET_ADD, bindingsHandle,
-                    annotationLiterals.process(tryCatch, classOutput, bindingClass, binding, Types.getPackageName(subclass.getClassName())));
-        }
-
+        // InvocationContextImpl.aroundInvoke(this, m1Method, params, m1Chain, m1Forward, m1Bindings)
         ResultHandle invocationContext = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXT_AROUND_INVOKE, tryCatch.getThis(),
-                interceptedMethodHandle, paramsHandle, interceptedChainHandle, func.getInstance(), bindingsHandle);
+                tryCatch.readInstanceField(methodField, tryCatch.getThis()), paramsHandle, tryCatch.readInstanceField(chainField, tryCatch.getThis()),
+                tryCatch.readInstanceField(forwardField, tryCatch.getThis()), tryCatch.readInstanceField(bindingsField, tryCatch.getThis()));
         // InvocationContext.proceed()
         ResultHandle ret = tryCatch.invokeInterfaceMethod(MethodDescriptors.INVOCATION_CONTEXT_PROCEED, invocationContext);
-        tryCatch.returnValue(superResult != null ? ret : null);
+        tryCatch.returnValue(method.returnType().kind() != Type.Kind.VOID ? ret : null);
     }
 
     /**
@@ -18,31 +18,75 @@ package io.quarkus.arc;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
+/**
+ * Instances of beans with a valid context slot (see {@link InjectableBean#getContextSlot()}) are stored in an array. A lookup does not allocate and
+ * does not acquire a monitor once the instance exists. The first access initializes the slot with a CAS-based protocol: the winning thread installs a
+ * {@link Pending} marker and creates the instance, other threads wait until the instance is published. As with {@link ComputingCache}, a reentrant
+ * lookup from the creating thread does not block. All other contextuals are stored in a {@link ComputingCache}.
+ */
 abstract class AbstractSharedContext implements InjectableContext {
 
     private final ComputingCache<Key<?>, InstanceHandleImpl<?>> instances;
 
-    @SuppressWarnings("rawtypes")
+    // Holds either null, a Pending marker or an InstanceHandleImpl
+    private final AtomicReferenceArray<Object> slots;
+
     public AbstractSharedContext() {
+        this(0);
+    }
+
+    /**
+     *
+     * @param slots The number of slots, i.e. beans with a slot index lower than this value are stored in an array
+     */
+    @SuppressWarnings("rawtypes")
+    public AbstractSharedContext(int slots) {
         this.instances = new ComputingCache<>(key -> createInstanceHandle((InjectableBean) key.contextual, key.creationalContext));
+        this.slots = new AtomicReferenceArray<>(slots);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        int slot = slotOf(contextual);
+        if (slot >= 0) {
+            return getOrCreate(slot, (InjectableBean<T>) contextual, creationalContext).get();
+        }
         return (T) instances.getValue(new Key<>(contextual, creationalContext)).get();
     }
 
+    /**
+     *
+     * @param bean
+     * @return the instance handle, a new contextual instance is created if needed
+     */
+    @SuppressWarnings("unchecked")
+    <T> InstanceHandle<T> getInstanceHandle(InjectableBean<T> bean) {
+        int slot = slotOf(bean);
+        if (slot >= 0) {
+            return getOrCreate(slot, bean, null);
+        }
+        return (InstanceHandle<T>) instances.getValue(new Key<>(bean, new CreationalContextImpl<>()));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
+        int slot = slotOf(contextual);
+        if (slot >= 0) {
+            Object value = slots.get(slot);
+            return value instanceof InstanceHandleImpl ? ((InstanceHandleImpl<T>) value).get() : null;
+        }
         InstanceHandleImpl<?> handle = instances.getValueIfPresent(new Key<>(contextual, null));
         return handle != null ? (T) handle.get() : null;
     }
@@ -50,6 +94,12 @@ abstract class AbstractSharedContext implements InjectableContext {
     @Override
     public Collection<InstanceHandle<?>> getAll() {
         List<InstanceHandle<?>> all = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Object value = slots.get(i);
+            if (value instanceof InstanceHandleImpl) {
+                all.add((InstanceHandleImpl<?>) value);
+            }
+        }
         instances.forEachValue(all::add);
         return all;
     }
@@ -61,7 +111,13 @@ abstract class AbstractSharedContext implements InjectableContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        InstanceHandleImpl<?> handle = instances.remove(new Key<>(contextual, null));
+        int slot = slotOf(contextual);
+        InstanceHandleImpl<?> handle;
+        if (slot >= 0) {
+            handle = removeFromSlot(slot);
+        } else {
+            handle = instances.remove(new Key<>(contextual, null));
+        }
         if (handle != null) {
             handle.destroyInternal();
         }
@@ -69,7 +125,14 @@ abstract class AbstractSharedContext implements InjectableContext {
 
     @Override
     public synchronized void destroy() {
-        Set<InstanceHandleImpl<?>> values = instances.getPresentValues();
+        Set<InstanceHandleImpl<?>> values = new HashSet<>(instances.getPresentValues());
+        for (int i = 0; i < slots.length(); i++) {
+            // An instance that is being created is destroyed once it is published
+            InstanceHandleImpl<?> handle = removeFromSlot(i);
+            if (handle != null) {
+                values.add(handle);
+            }
+        }
         // Destroy the producers first
         for (Iterator<InstanceHandleImpl<?>> iterator = values.iterator(); iterator.hasNext();) {
             InstanceHandleImpl<?> instanceHandle = iterator.next();
@@ -84,11 +147,104 @@ abstract class AbstractSharedContext implements InjectableContext {
         instances.clear();
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> InstanceHandleImpl<T> getOrCreate(int slot, InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        while (true) {
+            Object value = slots.get(slot);
+            if (value instanceof InstanceHandleImpl) {
+                return (InstanceHandleImpl<T>) value;
+            }
+            if (value == null) {
+                Pending pending = new Pending();
+                if (slots.compareAndSet(slot, null, pending)) {
+                    InstanceHandleImpl<T> handle;
+                    try {
+                        handle = createInstanceHandle(bean, creationalContext != null ? creationalContext : new CreationalContextImpl<>());
+                    } catch (RuntimeException | Error e) {
+                        slots.compareAndSet(slot, pending, null);
+                        pending.done.countDown();
+                        throw e;
+                    }
+                    slots.set(slot, handle);
+                    pending.done.countDown();
+                    return handle;
+                }
+            } else {
+                Pending pending = (Pending) value;
+                if (pending.owner == Thread.currentThread()) {
+                    // Reentrant lookup during creation - do not block
+                    return createInstanceHandle(bean, creationalContext != null ? creationalContext : new CreationalContextImpl<>());
+                }
+                pending.await();
+            }
+        }
+    }
+
+    /**
+     * An instance that is being created by another thread is destroyed once it is published.
+     *
+     * @param slot
+     * @return the removed instance handle or {@code null} if the slot is empty
+     */
+    private InstanceHandleImpl<?> removeFromSlot(int slot) {
+        while (true) {
+            Object value = slots.get(slot);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof InstanceHandleImpl) {
+                if (slots.compareAndSet(slot, value, null)) {
+                    return (InstanceHandleImpl<?>) value;
+                }
+            } else {
+                Pending pending = (Pending) value;
+                if (pending.owner == Thread.currentThread()) {
+                    // Destroyed during its own creation - there is nothing to destroy yet
+                    return null;
+                }
+                pending.await();
+            }
+        }
+    }
+
+    private int slotOf(Contextual<?> contextual) {
+        if (contextual instanceof InjectableBean) {
+            int slot = ((InjectableBean<?>) contextual).getContextSlot();
+            if (slot < slots.length()) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static InstanceHandleImpl createInstanceHandle(InjectableBean bean, CreationalContext ctx) {
         return new InstanceHandleImpl(bean, bean.create(ctx), ctx);
     }
 
+    private static final class Pending {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
     private static class Key<T> {
 
         private Contextual<T> contextual;
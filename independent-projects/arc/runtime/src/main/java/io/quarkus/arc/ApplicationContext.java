@@ -22,6 +22,14 @@ import javax.enterprise.context.ApplicationScoped;
 
 class ApplicationContext extends AbstractSharedContext {
 
+    ApplicationContext() {
+        super();
+    }
+
+    ApplicationContext(int slots) {
+        super(slots);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
@@ -17,6 +17,7 @@
 package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.enterprise.inject.spi.BeanManager;
@@ -119,4 +120,19 @@ public interface ArcContainer {
      */
     BeanManager beanManager();
 
+    /**
+     *
+     * @return the default executor used for asynchronous event notifications
+     * @see javax.enterprise.event.Event#fireAsync(Object)
+     */
+    Executor getExecutor();
+
+    /**
+     * Replaces the default executor used for asynchronous event notifications. By default, {@link java.util.concurrent.ForkJoinPool#commonPool()} is
+     * used.
+     *
+     * @param executor
+     */
+    void setExecutor(Executor executor);
+
 }
@@ -17,6 +17,7 @@
 package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +31,8 @@ import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -60,6 +63,8 @@ class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
 
+    private static final Annotation[] DEFAULT_QUALIFIERS = new Annotation[] { Default.Literal.INSTANCE };
+
     private final String id;
 
     private final AtomicBoolean running;
@@ -68,13 +73,19 @@ class ArcContainerImpl implements ArcContainer {
     private final List<InjectableInterceptor<?>> interceptors;
     private final List<InjectableObserverMethod<?>> observers;
 
+    // Raw bean type -> beans that declare a bean type with the given raw type
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
+
     private final Map<Class<? extends Annotation>, InjectableContext> contexts;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
+
+    private volatile Executor executor;
     
     public ArcContainerImpl() {
         id = UUID.randomUUID().toString();
@@ -94,17 +105,20 @@ class ArcContainerImpl implements ArcContainer {
             observers.addAll(components.getObservers());
         }
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
+        beansByRawType = indexBeansByRawType(beans);
         contexts = new HashMap<>();
-        contexts.put(ApplicationScoped.class, new ApplicationContext());
-        contexts.put(Singleton.class, new SingletonContext());
-        contexts.put(RequestScoped.class, new RequestContext());
+        contexts.put(ApplicationScoped.class, new ApplicationContext(getContextSlots(ApplicationScoped.class)));
+        contexts.put(Singleton.class, new SingletonContext(getContextSlots(Singleton.class)));
+        contexts.put(RequestScoped.class, new RequestContext(getContextSlots(RequestScoped.class)));
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
         }
+        executor = ForkJoinPool.commonPool();
     }
 
     void init() {
@@ -225,6 +239,16 @@ class ArcContainerImpl implements ArcContainer {
         return BeanManagerImpl.INSTANCE.get();
     }
 
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers=" + observers.size() + ", contexts="
@@ -246,7 +270,9 @@ class ArcContainerImpl implements ArcContainer {
             // Clear caches
             contexts.clear();
             beans.clear();
+            beansByRawType.clear();
             resolved.clear();
+            resolvedObservers.clear();
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -292,7 +318,7 @@ class ArcContainerImpl implements ArcContainer {
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         }
         Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
@@ -397,8 +423,12 @@ class ArcContainerImpl implements ArcContainer {
     }
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
+        List<InjectableBean<?>> candidates = getCandidateBeans(resolvable.requiredType);
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        for (InjectableBean<?> bean : candidates) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -416,6 +446,80 @@ class ArcContainerImpl implements ArcContainer {
         return matching;
     }
 
+    /**
+     * Slots are only used if all beans with the given scope declare a unique slot lower than the number of such beans. This may not be the case if there are
+     * multiple deployments, i.e. multiple {@link ComponentsProvider}s.
+     *
+     * @param scope
+     * @return the number of slots the context for the given scope should use
+     */
+    private int getContextSlots(Class<? extends Annotation> scope) {
+        List<InjectableBean<?>> scopedBeans = new ArrayList<>();
+        for (InjectableBean<?> bean : beans) {
+            if (scope.equals(bean.getScope())) {
+                scopedBeans.add(bean);
+            }
+        }
+        boolean[] used = new boolean[scopedBeans.size()];
+        for (InjectableBean<?> bean : scopedBeans) {
+            int slot = bean.getContextSlot();
+            if (slot < 0 || slot >= used.length || used[slot]) {
+                LOGGER.debugf("Context slots not used for %s - invalid slot %s declared by %s", scope, slot, bean);
+                return 0;
+            }
+            used[slot] = true;
+        }
+        return used.length;
+    }
+
+    /**
+     * A bean type may only be assignable to the required type if both have an identical raw type. Therefore, we only need to inspect the beans indexed
+     * under the raw type of the required type. If the raw type cannot be determined all beans are returned.
+     *
+     * @param requiredType
+     * @return the list of beans that might match the required type
+     */
+    private List<InjectableBean<?>> getCandidateBeans(Type requiredType) {
+        Class<?> rawType = getIndexableRawType(requiredType);
+        if (rawType == null) {
+            return beans;
+        }
+        List<InjectableBean<?>> candidates = beansByRawType.get(rawType);
+        return candidates != null ? candidates : Collections.emptyList();
+    }
+
+    private static Map<Class<?>, List<InjectableBean<?>>> indexBeansByRawType(List<InjectableBean<?>> beans) {
+        Map<Class<?>, List<InjectableBean<?>>> index = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = getIndexableRawType(type);
+                if (rawType != null) {
+                    List<InjectableBean<?>> indexed = index.computeIfAbsent(rawType, t -> new ArrayList<>());
+                    if (!indexed.contains(bean)) {
+                        indexed.add(bean);
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Only classes and parameterized types are considered by {@link BeanTypeAssignabilityRules}.
+     *
+     * @param type
+     * @return the boxed raw type or null if the type cannot be indexed
+     */
+    private static Class<?> getIndexableRawType(Type type) {
+        if (type instanceof Class<?>) {
+            return Types.boxedClass((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            Class<?> rawType = Types.getRawType(type);
+            return rawType != null ? Types.boxedClass(rawType) : null;
+        }
+        return null;
+    }
+
     private static int compareAlternativeBeans(InjectableBean<?> bean1, InjectableBean<?> bean2) {
         // The highest priority wins
         Integer priority2 = bean2.getDeclaringBean() != null ? bean2.getDeclaringBean().getAlternativePriority() : bean2.getAlternativePriority();
@@ -423,25 +527,39 @@ class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * The resolved observers are cached and shared by all {@link javax.enterprise.event.Event} instances.
+     *
+     * @param eventType
+     * @param eventQualifiers The set must not be modified afterwards
+     * @return an immutable list of resolved observers, sorted by priority
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        return (List) resolvedObservers.getValue(new EventResolvable(eventType, eventQualifiers));
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
-                if (observer.getObservedQualifiers().isEmpty() || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                if (observer.getObservedQualifiers().isEmpty() || Qualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
+        if (resolvedObservers.isEmpty()) {
+            return Collections.emptyList();
+        }
         // Observers with smaller priority values are called first
         Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return Collections.unmodifiableList(resolvedObservers);
     }
-    
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -474,7 +592,7 @@ class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
@@ -551,4 +669,34 @@ class ArcContainerImpl implements ArcContainer {
 
     }
 
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventType, qualifiers);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return Objects.equals(eventType, other.eventType) && Objects.equals(qualifiers, other.qualifiers);
+        }
+
+    }
+
 }
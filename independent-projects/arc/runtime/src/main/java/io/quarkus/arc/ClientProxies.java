@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc;
+
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Static helpers used by generated client proxies.
+ */
+public final class ClientProxies {
+
+    private ClientProxies() {
+    }
+
+    /**
+     * The returned handle may be cached by a client proxy as long as it's {@link InstanceHandle#isAvailable() available}, i.e. until the contextual
+     * instance is destroyed.
+     *
+     * @param bean
+     * @return the instance handle for the given {@link ApplicationScoped} bean
+     */
+    public static <T> InstanceHandle<T> getApplicationScopedHandle(InjectableBean<T> bean) {
+        return ((ApplicationContext) Arc.container().getContext(ApplicationScoped.class)).getInstanceHandle(bean);
+    }
+
+}
@@ -19,7 +19,6 @@ package io.quarkus.arc;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -32,7 +31,6 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import javax.enterprise.event.Event;
@@ -55,10 +53,6 @@ class EventImpl<T> implements Event<T> {
 
     private static final int DEFAULT_CACHE_CAPACITY = 4;
 
-    private static final Executor DEFAULT_EXECUTOR = ForkJoinPool.commonPool();
-
-    private static final NotificationOptions DEFAULT_OPTIONS = NotificationOptions.ofExecutor(DEFAULT_EXECUTOR);
-
     private final HierarchyDiscovery injectionPointTypeHierarchy;
 
     private final Type eventType;
@@ -87,7 +81,7 @@ class EventImpl<T> implements Event<T> {
 
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event) {
-        return fireAsync(event, DEFAULT_OPTIONS);
+        return fireAsync(event, NotificationOptions.ofExecutor(Arc.container().getExecutor()));
     }
 
     @Override
@@ -99,10 +93,10 @@ class EventImpl<T> implements Event<T> {
 
         Executor executor = options.getExecutor();
         if (executor == null) {
-            executor = DEFAULT_EXECUTOR;
+            executor = Arc.container().getExecutor();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -153,11 +147,7 @@ class EventImpl<T> implements Event<T> {
 
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers, ArcContainerImpl container) {
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>();
-        for (ObserverMethod<? super T> observerMethod : container.resolveObservers(eventType, qualifiers)) {
-            notifierObserverMethods.add(observerMethod);
-        }
-        return new Notifier<>(runtimeType, notifierObserverMethods, metadata);
+        return new Notifier<>(runtimeType, container.resolveObservers(eventType, qualifiers), metadata);
     }
 
     private Type getEventType(Class<?> runtimeType) {
@@ -206,10 +196,25 @@ class EventImpl<T> implements Event<T> {
 
         private final EventMetadata eventMetadata;
 
-        Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
+        private final boolean hasSyncObservers;
+
+        private final boolean hasAsyncObservers;
+
+        Notifier(Class<?> runtimeType, List<? extends ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
-            this.observerMethods = observerMethods;
+            this.observerMethods = Collections.unmodifiableList(observerMethods);
             this.eventMetadata = eventMetadata;
+            boolean hasSyncObservers = false;
+            boolean hasAsyncObservers = false;
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    hasAsyncObservers = true;
+                } else {
+                    hasSyncObservers = true;
+                }
+            }
+            this.hasSyncObservers = hasSyncObservers;
+            this.hasAsyncObservers = hasAsyncObservers;
         }
 
         void notify(T event) {
@@ -218,7 +223,8 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            // Fast path - no observer of the given kind, no need to allocate the event context
+            if (async ? hasAsyncObservers : hasSyncObservers) {
                 EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
                 for (ObserverMethod<? super T> observerMethod : observerMethods) {
                     if (observerMethod.isAsync() == async) {
@@ -236,6 +242,10 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return hasAsyncObservers;
+        }
+
     }
 
     static class EventContextImpl<T> implements EventContext<T> {
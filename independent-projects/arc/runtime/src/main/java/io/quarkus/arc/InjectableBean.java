@@ -51,6 +51,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return Dependent.class;
     }
 
+    /**
+     * The slot is assigned by the container at build time and is unique among all beans with the same scope in a specific deployment. Contexts may use the
+     * slot to store contextual instances in an array instead of a map.
+     *
+     * @return the slot, or -1 if no slot is assigned
+     */
+    default int getContextSlot() {
+        return -1;
+    }
+
     /**
      *
      * @return the set of bean types
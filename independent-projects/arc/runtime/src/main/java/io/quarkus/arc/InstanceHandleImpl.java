@@ -46,6 +46,9 @@ class InstanceHandleImpl<T> implements InstanceHandle<T> {
     
     private final AtomicBoolean destroyed;
 
+    // Set once the contextual instance is destroyed, the handle may be cached, e.g. by a client proxy
+    private volatile boolean invalidated;
+
     InstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         this(bean, instance, creationalContext, null);
     }
@@ -66,6 +69,11 @@ class InstanceHandleImpl<T> implements InstanceHandle<T> {
         return instance;
     }
 
+    @Override
+    public boolean isAvailable() {
+        return instance != null && !destroyed.get() && !invalidated;
+    }
+
     @Override
     public InjectableBean<T> getBean() {
         return bean;
@@ -88,6 +96,7 @@ class InstanceHandleImpl<T> implements InstanceHandle<T> {
         } else {
             bean.destroy(instance, creationalContext);
         }
+        invalidated = true;
     }
 
     static <T> InstanceHandleImpl<T> unwrap(InstanceHandle<T> handle) {
@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -88,7 +87,7 @@ public class InvocationContextImpl implements InvocationContext {
         return new InvocationContextImpl(null, null, constructor, null, chain, null, aroundConstructForward, interceptorBindings);
     }
 
-    private final AtomicReference<Object> target;
+    private Object target;
 
     private final Method method;
 
@@ -98,7 +97,8 @@ public class InvocationContextImpl implements InvocationContext {
 
     private int position;
 
-    private final Map<String, Object> contextData;
+    // Lazily initialized - most interceptors never access the context data
+    private Map<String, Object> contextData;
 
     private final List<InterceptorInvocation> chain;
 
@@ -120,7 +120,7 @@ public class InvocationContextImpl implements InvocationContext {
      */
     InvocationContextImpl(Object target, Method method, Constructor<?> constructor, Object[] args, List<InterceptorInvocation> chain,
             Function<InvocationContext, Object> aroundInvokeForward, Supplier<Object> aroundConstructForward, Set<Annotation> interceptorBindings) {
-        this.target = new AtomicReference<>(target);
+        this.target = target;
         this.method = method;
         this.constructor = constructor;
         this.args = args;
@@ -129,8 +129,6 @@ public class InvocationContextImpl implements InvocationContext {
         this.aroundInvokeForward = aroundInvokeForward;
         this.aroundConstructForward = aroundConstructForward;
         this.interceptorBindings = interceptorBindings;
-        contextData = new HashMap<>();
-        contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
     }
 
     boolean hasNextInterceptor() {
@@ -151,7 +149,7 @@ public class InvocationContextImpl implements InvocationContext {
             return aroundInvokeForward.apply(this);
         }
         if (aroundConstructForward != null) {
-            target.set(aroundConstructForward.get());
+            target = aroundConstructForward.get();
         }
         return null;
     }
@@ -162,7 +160,7 @@ public class InvocationContextImpl implements InvocationContext {
             if (hasNextInterceptor()) {
                 if (aroundConstructForward != null) {
                     invokeNext();
-                    return target.get();
+                    return target;
                 } else {
                     return invokeNext();
                 }
@@ -184,7 +182,7 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Object getTarget() {
-        return target.get();
+        return target;
     }
 
     @Override
@@ -215,6 +213,10 @@ public class InvocationContextImpl implements InvocationContext {
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new HashMap<>();
+            contextData.put(KEY_INTERCEPTOR_BINDINGS, interceptorBindings);
+        }
         return contextData;
     }
 
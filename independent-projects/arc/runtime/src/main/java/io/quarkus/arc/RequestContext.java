@@ -18,9 +18,11 @@ package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.enterprise.context.ContextNotActiveException;
@@ -29,13 +31,29 @@ import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
 /**
+ * The contextual instances of beans with an assigned {@link InjectableBean#getContextSlot() slot} are stored in an array. Other contextual instances are
+ * stored in a map. The state holder is reused when the context is activated again on the same thread.
  *
  * @author Martin Kouba
  */
 class RequestContext implements ManagedContext {
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<Map<Contextual<?>, InstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    private final int slots;
+
+    RequestContext() {
+        this(0);
+    }
+
+    /**
+     *
+     * @param slots The number of slots, i.e. beans with a slot index lower than this value are stored in an array
+     */
+    RequestContext(int slots) {
+        this.slots = slots;
+    }
 
     @Override
     public Class<? extends Annotation> getScope() {
@@ -44,8 +62,8 @@ class RequestContext implements ManagedContext {
 
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        Map<Contextual<?>, InstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState ctx = currentContext.get();
+        if (ctx == null || !ctx.active) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
@@ -66,22 +84,23 @@ class RequestContext implements ManagedContext {
 
     @Override
     public Collection<InstanceHandle<?>> getAll() {
-        Map<Contextual<?>, InstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState ctx = currentContext.get();
+        if (ctx == null || !ctx.active) {
             return Collections.emptyList();
         }
-        return new ArrayList<>(ctx.values());
+        return ctx.values();
     }
 
     @Override
     public boolean isActive() {
-        return currentContext.get() != null;
+        RequestContextState ctx = currentContext.get();
+        return ctx != null && ctx.active;
     }
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, InstanceHandle<?>> ctx = currentContext.get();
-        if (ctx == null) {
+        RequestContextState ctx = currentContext.get();
+        if (ctx == null || !ctx.active) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
@@ -93,7 +112,14 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void activate(Collection<InstanceHandle<?>> initialState) {
-        Map<Contextual<?>, InstanceHandle<?>> state = new HashMap<>();
+        RequestContextState state = currentContext.get();
+        if (state == null) {
+            state = new RequestContextState(slots);
+            currentContext.set(state);
+        } else {
+            // Reuse the state holder - any existing state is discarded
+            state.clear();
+        }
         if (initialState != null) {
             for (InstanceHandle<?> instanceHandle : initialState) {
                 if (!instanceHandle.getBean().getScope().equals(getScope())) {
@@ -102,18 +128,23 @@ class RequestContext implements ManagedContext {
                 state.put(instanceHandle.getBean(), instanceHandle);
             }
         }
-        currentContext.set(state);
+        state.active = true;
     }
 
     @Override
     public void deactivate() {
-        currentContext.remove();
+        RequestContextState state = currentContext.get();
+        if (state != null) {
+            // Do not destroy the instances but release the references so that the holder can be reused
+            state.clear();
+            state.active = false;
+        }
     }
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, InstanceHandle<?>> ctx = currentContext.get();
-        if (ctx != null) {
+        RequestContextState ctx = currentContext.get();
+        if (ctx != null && ctx.active) {
             synchronized (ctx) {
                 for (InstanceHandle<?> instance : ctx.values()) {
                     try {
@@ -127,4 +158,79 @@ class RequestContext implements ManagedContext {
         }
     }
 
+    static final class RequestContextState {
+
+        private final InstanceHandle<?>[] slots;
+
+        // Lazily initialized - only used for contextuals without a slot
+        private Map<Contextual<?>, InstanceHandle<?>> map;
+
+        private boolean active;
+
+        RequestContextState(int slots) {
+            this.slots = new InstanceHandle<?>[slots];
+        }
+
+        InstanceHandle<?> get(Contextual<?> contextual) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                return slots[slot];
+            }
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, InstanceHandle<?> instance) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                slots[slot] = instance;
+            } else {
+                if (map == null) {
+                    map = new HashMap<>();
+                }
+                map.put(contextual, instance);
+            }
+        }
+
+        InstanceHandle<?> remove(Contextual<?> contextual) {
+            int slot = slotOf(contextual);
+            if (slot >= 0) {
+                InstanceHandle<?> previous = slots[slot];
+                slots[slot] = null;
+                return previous;
+            }
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        List<InstanceHandle<?>> values() {
+            List<InstanceHandle<?>> values = new ArrayList<>();
+            for (InstanceHandle<?> instance : slots) {
+                if (instance != null) {
+                    values.add(instance);
+                }
+            }
+            if (map != null) {
+                values.addAll(map.values());
+            }
+            return values;
+        }
+
+        void clear() {
+            Arrays.fill(slots, null);
+            if (map != null) {
+                map.clear();
+            }
+        }
+
+        private int slotOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int slot = ((InjectableBean<?>) contextual).getContextSlot();
+                if (slot < slots.length) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+    }
+
 }
@@ -22,6 +22,14 @@ import javax.inject.Singleton;
 
 class SingletonContext extends AbstractSharedContext {
 
+    SingletonContext() {
+        super();
+    }
+
+    SingletonContext(int slots) {
+        super(slots);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return Singleton.class;
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ApplicationScopedClientProxyTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testCachedInstanceIsInvalidated() {
+        ArcContainer arc = Arc.container();
+        Counter counter = arc.instance(Counter.class).get();
+        String id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertEquals(1, Counter.CREATED.get());
+
+        // Destroy the contextual instance - the client proxy must not use the cached instance anymore
+        InjectableBean<Counter> bean = arc.instance(Counter.class).getBean();
+        arc.getContext(ApplicationScoped.class).destroy(bean);
+        assertTrue(Counter.DESTROYED.get() > 0);
+        String newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(newId, counter.getId());
+        assertEquals(2, Counter.CREATED.get());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            id = UUID.randomUUID().toString();
+            CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ApplicationContextConcurrencyTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Slow.class);
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        Slow.CREATED.set(0);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        start.await();
+                        return Arc.container().instance(Slow.class).get().getId();
+                    }
+                }));
+            }
+            start.countDown();
+            String id = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<String> result : results) {
+                assertEquals(id, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, Slow.CREATED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testDestroy() {
+        InjectableContext context = Arc.container().getContext(ApplicationScoped.class);
+        InjectableBean<Slow> bean = (InjectableBean) Arc.container().instance(Slow.class).getBean();
+        Slow.CREATED.set(0);
+        String id = Arc.container().instance(Slow.class).get().getId();
+        assertEquals(1, context.getAll().size());
+        assertSame(context.getAll().iterator().next().get(), context.get(bean));
+        context.destroy(bean);
+        assertNull(context.get(bean));
+        String newId = Arc.container().instance(Slow.class).get().getId();
+        assertEquals(2, Slow.CREATED.get());
+        assertEquals(false, id.equals(newId));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test
+    public void testDestroyDuringCreation() throws Exception {
+        InjectableContext context = Arc.container().getContext(ApplicationScoped.class);
+        InjectableBean<Slow> bean = (InjectableBean) Arc.container().instance(Slow.class).getBean();
+        Slow.CREATED.set(0);
+        Slow.DESTROYED.set(0);
+        Slow.DESTROYED_ID.set(null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> id = executor.submit(() -> Arc.container().instance(Slow.class).get().getId());
+            while (Slow.CREATED.get() == 0) {
+                Thread.sleep(1);
+            }
+            // The instance is being created - destroy() waits for it
+            context.destroy(bean);
+            assertEquals(1, Slow.DESTROYED.get());
+            assertEquals("slow1", Slow.DESTROYED_ID.get());
+            // The client proxy either used the instance before it was destroyed or obtains a new one
+            assertTrue(id.get(10, TimeUnit.SECONDS).matches("slow[12]"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDestroyContextDuringCreation() throws Exception {
+        InjectableContext context = Arc.container().getContext(ApplicationScoped.class);
+        Slow.CREATED.set(0);
+        Slow.DESTROYED.set(0);
+        Slow.DESTROYED_ID.set(null);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> id = executor.submit(() -> Arc.container().instance(Slow.class).get().getId());
+            while (Slow.CREATED.get() == 0) {
+                Thread.sleep(1);
+            }
+            // The pending instance is destroyed with the context once it is published
+            context.destroy();
+            assertEquals(1, Slow.DESTROYED.get());
+            assertEquals("slow1", Slow.DESTROYED_ID.get());
+            assertTrue(id.get(10, TimeUnit.SECONDS).matches("slow[12]"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    static class Slow {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        static final AtomicReference<String> DESTROYED_ID = new AtomicReference<>();
+
+        private String id;
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            id = "slow" + CREATED.incrementAndGet();
+            // Give other threads a chance to observe the pending initialization
+            Thread.sleep(50);
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+            DESTROYED_ID.set(id);
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DefaultExecutorTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observer.class);
+
+    @Test
+    public void testCustomDefaultExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-async-observers"));
+        try {
+            container.setExecutor(executor);
+            Producer producer = container.instance(Producer.class).get();
+            assertEquals("custom-async-observers",
+                    producer.event.fireAsync(new StringBuilder()).toCompletableFuture().get(10, TimeUnit.SECONDS).toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Dependent
+    static class Observer {
+
+        void observe(@ObservesAsync StringBuilder value) {
+            value.append(Thread.currentThread().getName());
+        }
+
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<StringBuilder> event;
+
+    }
+
+}
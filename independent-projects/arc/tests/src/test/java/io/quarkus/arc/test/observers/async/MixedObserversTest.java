@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.test.ArcTestContainer;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class MixedObserversTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, Observer.class);
+
+    @Test
+    public void testSyncAndAsyncObservers() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        Producer producer = container.instance(Producer.class).get();
+        Observer observer = container.instance(Observer.class).get();
+
+        // String has a sync observer only
+        producer.stringEvent.fire("foo");
+        assertEquals("bar", producer.stringEvent.fireAsync("bar").toCompletableFuture().get(10, TimeUnit.SECONDS));
+        // Integer has an async observer only
+        producer.intEvent.fire(1);
+        producer.intEvent.fireAsync(2).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        // Long has no observer at all
+        producer.longEvent.fire(1l);
+        assertEquals(Long.valueOf(2), producer.longEvent.fireAsync(2l).toCompletableFuture().get(10, TimeUnit.SECONDS));
+
+        List<String> events = observer.getEvents();
+        assertEquals(2, events.size());
+        assertEquals("sync::foo", events.get(0));
+        assertEquals("async::2", events.get(1));
+    }
+
+    @Singleton
+    static class Observer {
+
+        private List<String> events;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+        }
+
+        void observeString(@Observes String value) {
+            events.add("sync::" + value);
+        }
+
+        void observeInteger(@ObservesAsync Integer value) {
+            events.add("async::" + value);
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<String> stringEvent;
+
+        @Inject
+        Event<Integer> intEvent;
+
+        @Inject
+        Event<Long> longEvent;
+
+    }
+
+}
@@ -22,10 +22,14 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Collection;
+
 import javax.enterprise.context.ContextNotActiveException;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import org.junit.Rule;
 import org.junit.Test;
@@ -77,4 +81,33 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testReactivation() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+
+        requestContext.activate();
+        String controllerId = arc.instance(Controller.class).get().getId();
+        Collection<InstanceHandle<?>> state = requestContext.getAll();
+        assertEquals(1, state.size());
+        requestContext.deactivate();
+        assertFalse(requestContext.isActive());
+        assertTrue(requestContext.getAll().isEmpty());
+
+        // The same thread - reactivate with no initial state, the previous instance must not leak
+        requestContext.activate();
+        assertTrue(requestContext.getAll().isEmpty());
+        assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+        requestContext.deactivate();
+
+        // Reactivate with the previous state
+        Controller.DESTROYED.set(false);
+        requestContext.activate(state);
+        assertEquals(controllerId, arc.instance(Controller.class).get().getId());
+        requestContext.terminate();
+        assertTrue(Controller.DESTROYED.get());
+        assertFalse(requestContext.isActive());
+        Controller.DESTROYED.set(false);
+    }
+
 }
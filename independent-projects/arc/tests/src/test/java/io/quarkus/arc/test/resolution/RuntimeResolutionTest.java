@@ -17,12 +17,15 @@
 package io.quarkus.arc.test.resolution;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.AbstractList;
 import java.util.List;
+import java.util.Set;
 
+import javax.enterprise.inject.Produces;
 import javax.enterprise.util.TypeLiteral;
 import javax.inject.Singleton;
 
@@ -36,7 +39,7 @@ import org.junit.Test;
 public class RuntimeResolutionTest {
 
     @Rule
-    public ArcTestContainer container = new ArcTestContainer(MyList.class);
+    public ArcTestContainer container = new ArcTestContainer(MyList.class, PrimitiveProducer.class);
 
     @SuppressWarnings("serial")
     @Test
@@ -49,6 +52,25 @@ public class RuntimeResolutionTest {
         assertEquals(Integer.valueOf(7), list.get().get(1));
     }
 
+    @Test
+    public void testRawTypeResolution() {
+        ArcContainer arc = Arc.container();
+        assertTrue(arc.instance(MyList.class).isAvailable());
+        // Boxed required type and primitive bean type
+        assertEquals(Long.valueOf(42), arc.instance(Long.class).get());
+        assertFalse(arc.instance(Set.class).isAvailable());
+    }
+
+    @Singleton
+    static class PrimitiveProducer {
+
+        @Produces
+        long produceLong() {
+            return 42;
+        }
+
+    }
+
     @Singleton
     static class MyList extends AbstractList<Integer> {
 
@@ -26,7 +26,8 @@ public class RemoveUnusedBeansTest {
 
     @Rule
     public ArcTestContainer container = ArcTestContainer.builder()
-            .beanClasses(HasObserver.class, Foo.class, FooAlternative.class, HasName.class, UnusedProducers.class, InjectedViaInstance.class, Excluded.class, UsedProducers.class)
+            .beanClasses(HasObserver.class, Foo.class, FooAlternative.class, HasName.class, UnusedProducers.class, InjectedViaInstance.class, Excluded.class, UsedProducers.class,
+                    UnusedBean.class, OnlyInjectedInUnusedBean.class, UnusedCycleAlpha.class, UnusedCycleBravo.class)
             .removeUnusedBeans(true)
             .addRemovalExclusion(b -> b.getBeanClass().toString().equals(Excluded.class.getName()))
             .build();
@@ -45,6 +46,10 @@ public class RemoveUnusedBeansTest {
         assertEquals(FooAlternative.class.getName(), container.instance(Foo.class).get().ping());
         assertEquals(1, container.beanManager().getBeans(Foo.class).size());
         assertEquals("pong", container.instance(Excluded.class).get().ping());
+        assertFalse(container.instance(UnusedBean.class).isAvailable());
+        assertFalse(container.instance(OnlyInjectedInUnusedBean.class).isAvailable());
+        assertFalse(container.instance(UnusedCycleAlpha.class).isAvailable());
+        assertFalse(container.instance(UnusedCycleBravo.class).isAvailable());
     }
 
     @Dependent
@@ -117,4 +122,33 @@ public class RemoveUnusedBeansTest {
         
     }
 
+    @Dependent
+    static class UnusedBean {
+
+        @Inject
+        OnlyInjectedInUnusedBean bean;
+
+    }
+
+    @Dependent
+    static class OnlyInjectedInUnusedBean {
+
+    }
+
+    @Singleton
+    static class UnusedCycleAlpha {
+
+        @Inject
+        UnusedCycleBravo bravo;
+
+    }
+
+    @Singleton
+    static class UnusedCycleBravo {
+
+        @Inject
+        UnusedCycleAlpha alpha;
+
+    }
+
 }